@@ -1,17 +1,23 @@
 package com.ctltierlist.tiertagger;
 
 import com.ctltierlist.tiertagger.cache.OverallCache;
+import com.ctltierlist.tiertagger.cache.ProfilePrefetcher;
 import com.ctltierlist.tiertagger.client.gui.PlayerSearchScreen;
+import com.ctltierlist.tiertagger.client.render.TierTextCache;
+import com.ctltierlist.tiertagger.client.util.SkinLoader;
+import com.ctltierlist.tiertagger.client.util.TabListScanner;
 import com.ctltierlist.tiertagger.config.ModConfig;
 import com.ctltierlist.tiertagger.version.ModMenuSupport;
 import com.ctltierlist.tiertagger.version.VersionSupport;
 import com.ctltierlist.tiertagger.version.compat.CompatBridgeFactory;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
 import org.lwjgl.glfw.GLFW;
 
 public class CTLTierTaggerClient implements ClientModInitializer {
@@ -27,9 +33,18 @@ public class CTLTierTaggerClient implements ClientModInitializer {
         // Initialize config
         ModConfig.init(FabricLoader.getInstance().getConfigDir());
         
-        // Initialize overall cache (downloads /rankings/overall on startup)
+        // Initialize overall cache (disk cache and /rankings/overall load in the background)
         OverallCache.init(FabricLoader.getInstance().getConfigDir());
         
+        // Keep downloaded skins and heads on disk between sessions
+        SkinLoader.init(FabricLoader.getInstance().getConfigDir());
+        
+        // Warm tier data for the whole tab list after joining a server
+        TabListScanner.register();
+        
+        // Cached label widths were measured with the old fonts; rebuild them after a resource pack reload
+        CompatBridgeFactory.client().onResourceReload(Identifier.of("ctl-tiertagger", "tier_text_cache"), TierTextCache::clear);
+        
         // Register gamemode keybind
         gamemodeKeybind = KeyBindingHelper.registerKeyBinding(
             CompatBridgeFactory.client().createKeyBinding(
@@ -69,6 +84,13 @@ public class CTLTierTaggerClient implements ClientModInitializer {
             }
         });
         
+        // Write any debounced config changes and stop background work before the game exits
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> {
+            ModConfig.flush();
+            OverallCache.shutdown();
+            ProfilePrefetcher.shutdown();
+        });
+        
         CTLTierTagger.LOGGER.info("CTL TierTagger Client initialized!");
         CTLTierTagger.LOGGER.info("Nametag rendering enabled - tiers will show above players");
     }
@@ -1,5 +1,7 @@
 package com.ctltierlist.tiertagger.client.gui;
 
+import com.ctltierlist.tiertagger.cache.OverallCache;
+import com.ctltierlist.tiertagger.client.util.SkinLoader;
 import com.ctltierlist.tiertagger.config.ModConfig;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
@@ -130,9 +132,20 @@ public class ConfigScreen extends Screen {
                 ModConfig.setDebugMode(!ModConfig.isDebugMode());
                 button.setMessage(Text.literal(ModConfig.isDebugMode() ? "Disable Debug" : "Enable Debug"));
             }
-        ).dimensions(centerX - 100, startY + spacing * 4, 200, 20)
+        ).dimensions(centerX - 100, startY + spacing * 4, 98, 20)
          .tooltip(Tooltip.of(Text.literal("Enable debug logging")))
          .build());
+
+        // Toggle profile prefetching for players not on the overall leaderboard
+        this.addDrawableChild(ButtonWidget.builder(
+            Text.literal("Prefetch: " + (ModConfig.shouldPrefetchProfiles() ? "§aON" : "§cOFF")),
+            button -> {
+                ModConfig.setPrefetchProfiles(!ModConfig.shouldPrefetchProfiles());
+                button.setMessage(Text.literal("Prefetch: " + (ModConfig.shouldPrefetchProfiles() ? "§aON" : "§cOFF")));
+            }
+        ).dimensions(centerX + 2, startY + spacing * 4, 98, 20)
+         .tooltip(Tooltip.of(Text.literal("Look up tiers for players not on the overall leaderboard in the background")))
+         .build());
         
         // Player search button
         this.addDrawableChild(ButtonWidget.builder(
@@ -296,6 +309,27 @@ public class ConfigScreen extends Screen {
         this.addDrawableChild(picker);
     }
 
+    private static String leaderboardStatus() {
+        return switch (OverallCache.getState()) {
+            case EMPTY -> "§eloading...";
+            case DISK -> "§f" + OverallCache.getCacheSize() + " players §8(from disk)";
+            case LIVE -> {
+                OverallCache.RefreshStats stats = OverallCache.getLastRefreshStats();
+                String players = "§f" + OverallCache.getCacheSize() + " players";
+                yield stats == null ? players : players + " §8(§a+" + stats.added()
+                    + " §c-" + stats.removed() + " §e~" + stats.changed() + "§8)";
+            }
+        };
+    }
+
+    private static String textureStatus() {
+        SkinLoader.TextureCacheStats skins = SkinLoader.getSkinCacheStats();
+        SkinLoader.TextureCacheStats heads = SkinLoader.getHeadCacheStats();
+        return "§f" + skins.size() + "/" + skins.capacity() + " skins, " + heads.size() + "/" + heads.capacity() + " heads §8("
+            + (skins.hits() + heads.hits()) + " hits, " + (skins.misses() + heads.misses()) + " misses, "
+            + (skins.evictions() + heads.evictions()) + " evicted)";
+    }
+
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
         super.render(context, mouseX, mouseY, delta);
@@ -311,7 +345,7 @@ public class ConfigScreen extends Screen {
         
         // Draw info text based on category
         if (this.currentCategory == ConfigCategory.GENERAL) {
-            int infoY = this.height - 70;
+            int infoY = this.height - 82;
             context.drawCenteredTextWithShadow(
                 this.textRenderer,
                 Text.literal("§7Cache Time: §f" + ModConfig.getCacheTime() / 60000 + " minutes"),
@@ -327,6 +361,22 @@ public class ConfigScreen extends Screen {
                 infoY + 12,
                 Colors.WHITE
             );
+
+            context.drawCenteredTextWithShadow(
+                this.textRenderer,
+                Text.literal("§7Leaderboard: " + leaderboardStatus()),
+                centerX,
+                infoY + 24,
+                Colors.WHITE
+            );
+
+            context.drawCenteredTextWithShadow(
+                this.textRenderer,
+                Text.literal("§7Textures: " + textureStatus()),
+                centerX,
+                infoY + 36,
+                Colors.WHITE
+            );
         } else if (this.currentCategory == ConfigCategory.COLOURS) {
             context.drawCenteredTextWithShadow(
                 this.textRenderer,
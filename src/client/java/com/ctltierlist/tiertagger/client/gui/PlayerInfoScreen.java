@@ -1,6 +1,7 @@
 package com.ctltierlist.tiertagger.client.gui;
 
 import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.client.util.SkinLoader;
 import com.ctltierlist.tiertagger.config.ModConfig;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
@@ -20,12 +21,16 @@ public class PlayerInfoScreen extends Screen {
     private final TierListAPI.PlayerTierData playerData;
     private final List<TierEntry> tierEntries = new ArrayList<>();
     private final PlayerSkinWidget skinWidget;
+    // Name the skin texture was loaded under; pinned in SkinLoader until this screen is removed
+    private final String skinName;
 
-    public PlayerInfoScreen(Screen parent, TierListAPI.PlayerTierData playerData, PlayerSkinWidget skinWidget) {
+    public PlayerInfoScreen(Screen parent, TierListAPI.PlayerTierData playerData, PlayerSkinWidget skinWidget, String skinName) {
         super(Text.literal("Player Info"));
         this.parent = parent;
         this.playerData = playerData;
         this.skinWidget = skinWidget;
+        this.skinName = skinName;
+        SkinLoader.pinSkin(skinName);
         
         // Build and sort tier entries list
         for (Map.Entry<String, TierListAPI.TierInfo> entry : playerData.getAllTiers().entrySet()) {
@@ -237,6 +242,12 @@ public class PlayerInfoScreen extends Screen {
         }
     }
 
+    @Override
+    public void removed() {
+        super.removed();
+        SkinLoader.unpinSkin(this.skinName);
+    }
+
     private static class TierEntry {
         final String gamemode;
         final String tier;
@@ -2,6 +2,7 @@ package com.ctltierlist.tiertagger.client.gui;
 
 import com.ctltierlist.tiertagger.CTLTierTagger;
 import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.cache.ProfileCache;
 import com.ctltierlist.tiertagger.client.util.SkinLoader;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
@@ -90,7 +91,8 @@ public class PlayerSearchScreen extends Screen {
             playerName,
             this.client
         );
-        CompletableFuture<TierListAPI.PlayerTierData> dataFuture = TierListAPI.fetchPlayerTier(playerName);
+        // Profiles looked up recently open straight from the cache
+        CompletableFuture<TierListAPI.PlayerTierData> dataFuture = ProfileCache.get(playerName);
 
         // Wait for both to complete
         CompletableFuture.allOf(dataFuture, skinWidgetFuture).thenRun(() -> {
@@ -106,7 +108,7 @@ public class PlayerSearchScreen extends Screen {
                     
                     if (data != null && skinWidget != null) {
                         CTLTierTagger.LOGGER.info("[Search] Opening PlayerInfoScreen for {}", playerName);
-                        this.client.setScreen(new PlayerInfoScreen(this, data, skinWidget));
+                        this.client.setScreen(new PlayerInfoScreen(this, data, skinWidget, playerName));
                     } else {
                         CTLTierTagger.LOGGER.warn("[Search] Player not found: {}", playerName);
                         this.errorMessage = "§cPlayer not found: " + playerName;
@@ -36,11 +36,13 @@ public abstract class EntityRendererMixin {
         }
 
         try {
+            // Both paths are memoized downstream (per entity / per name) and re-resolve only when TierCache.getGeneration() moves
             if (renderLabelContext instanceof AbstractClientPlayerEntity player) {
                 TierHudRenderer.renderTierAboveNametag(player, matrices, vertexConsumers, light);
                 return;
             }
 
+            // Render state (1.21.2+): name fields are looked up once per class, then read directly
             String playerName = CompatBridgeFactory.client().resolvePlayerName(renderLabelContext);
             if (playerName != null) {
                 TierHudRenderer.renderTierAboveNametag(playerName, matrices, vertexConsumers, light);
@@ -0,0 +1,69 @@
+package com.ctltierlist.tiertagger.client.render;
+
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Style;
+import net.minecraft.text.Text;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds per-character colour gradients and memoizes them per (text, start colour, end colour).
+ * The returned Text is shared and must not be modified; append it to a new parent instead.
+ */
+public final class GradientText {
+    // Tier strings are few, but dragging a colour picker produces many colour pairs
+    private static final int MAX_CACHED = 256;
+    private static final Map<Key, Text> CACHE = new ConcurrentHashMap<>();
+
+    private GradientText() {}
+
+    public static Text of(String text, int startColor, int endColor) {
+        Key key = new Key(text, startColor, endColor);
+        Text cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= MAX_CACHED) {
+            CACHE.clear();
+        }
+        Text built = build(text, startColor, endColor);
+        CACHE.put(key, built);
+        return built;
+    }
+
+    /**
+     * Create gradient text by interpolating colors between characters, as one parent with a sibling per glyph
+     */
+    private static Text build(String text, int startColor, int endColor) {
+        int length = text.length();
+        if (length <= 1) {
+            return Text.literal(text).setStyle(Style.EMPTY.withColor(startColor));
+        }
+
+        int r1 = (startColor >> 16) & 0xFF;
+        int g1 = (startColor >> 8) & 0xFF;
+        int b1 = startColor & 0xFF;
+
+        int r2 = (endColor >> 16) & 0xFF;
+        int g2 = (endColor >> 8) & 0xFF;
+        int b2 = endColor & 0xFF;
+
+        MutableText result = Text.empty();
+        for (int i = 0; i < length; i++) {
+            // Calculate interpolation factor (0.0 to 1.0)
+            float factor = (float) i / (length - 1);
+
+            int r = (int) (r1 + (r2 - r1) * factor);
+            int g = (int) (g1 + (g2 - g1) * factor);
+            int b = (int) (b1 + (b2 - b1) * factor);
+
+            int interpolatedColor = (r << 16) | (g << 8) | b;
+            result.append(Text.literal(String.valueOf(text.charAt(i))).setStyle(Style.EMPTY.withColor(interpolatedColor)));
+        }
+
+        return result;
+    }
+
+    private record Key(String text, int startColor, int endColor) {}
+}
@@ -0,0 +1,21 @@
+package com.ctltierlist.tiertagger.client.render;
+
+import com.ctltierlist.tiertagger.api.TierListAPI;
+import net.minecraft.entity.player.PlayerEntity;
+
+/**
+ * Per-entity memo of a player's resolved tier data, mixed into PlayerEntity by PlayerNametagMixin.
+ *
+ * The nametag and HUD both ask for a player's tiers every frame; the memo answers from two fields
+ * and only goes back to TierCache when TierCache.getGeneration() changes or REVALIDATE_MS passes
+ * (so expired prefetch entries still get refreshed).
+ */
+public interface PlayerTierMemo {
+    long REVALIDATE_MS = 5_000;
+
+    TierListAPI.PlayerTierData ctltiertagger$getTierData();
+
+    static TierListAPI.PlayerTierData get(PlayerEntity player) {
+        return ((PlayerTierMemo) player).ctltiertagger$getTierData();
+    }
+}
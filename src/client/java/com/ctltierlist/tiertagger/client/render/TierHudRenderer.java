@@ -2,6 +2,7 @@ package com.ctltierlist.tiertagger.client.render;
 
 import com.ctltierlist.tiertagger.api.TierListAPI;
 import com.ctltierlist.tiertagger.cache.TierCache;
+import com.ctltierlist.tiertagger.config.ConfigSnapshot;
 import com.ctltierlist.tiertagger.config.ModConfig;
 import com.ctltierlist.tiertagger.version.compat.CompatBridgeFactory;
 import net.minecraft.client.MinecraftClient;
@@ -9,103 +10,105 @@ import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.text.Text;
 import org.joml.Matrix4f;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class TierHudRenderer {
 
     private static final MinecraftClient client = MinecraftClient.getInstance();
 
+    private static final int MAX_NAME_MEMOS = 128;
+
+    // Memo for the name-only path, keyed by name: on 1.21.2+ one render state is shared by every
+    // player a renderer draws, so the state itself can't hold it. The name is a new String most
+    // frames, so keys are held strongly and the least recently drawn name is dropped past
+    // MAX_NAME_MEMOS. Only touched on the render thread.
+    private static final Map<String, NameMemo> nameMemos = new LinkedHashMap<>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, NameMemo> eldest) {
+            return size() > MAX_NAME_MEMOS;
+        }
+    };
+
+    private static final class NameMemo {
+        long generation = -1;
+        long resolvedAt;
+        // Null when there is nothing to draw (no tiers, or the local player)
+        TierListAPI.PlayerTierData tierData;
+    }
+
     /**
      * Render tier label above player's nametag
      * Called from renderLabelIfPresent, so positioning is already done
      */
     public static void renderTierAboveNametag(PlayerEntity player, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
-        renderTierAboveNametag(player, player != null ? player.getName().getString() : null, matrices, vertexConsumers, light);
-    }
-
-    public static void renderTierAboveNametag(String playerName, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
-        renderTierAboveNametag(null, playerName, matrices, vertexConsumers, light);
-    }
-
-    private static void renderTierAboveNametag(PlayerEntity player, String playerName, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
-        if (playerName == null || playerName.isBlank()) {
+        // Don't render for local player
+        if (player == null || player == client.player) {
             return;
         }
 
-        if (!ModConfig.isEnabled()) {
+        ConfigSnapshot config = ModConfig.snapshot();
+        if (!config.enabled()) {
             return;
         }
 
-        // Don't render for local player when possible
-        if (player != null && player == client.player) {
-            return;
-        }
-        if (player == null && client.player != null && playerName.equals(client.player.getName().getString())) {
+        // Memoized on the entity, re-resolved only when the caches change
+        renderTierLabel(PlayerTierMemo.get(player), config, matrices, vertexConsumers, light);
+    }
+
+    public static void renderTierAboveNametag(String playerName, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
+        if (playerName == null || playerName.isBlank()) {
             return;
         }
 
-        // Fetch tier data if not cached
-        TierListAPI.PlayerTierData tierData = TierCache.getTierData(playerName);
-
-        if (tierData == null) {
+        ConfigSnapshot config = ModConfig.snapshot();
+        if (!config.enabled()) {
             return;
         }
 
-        // Determine which tier to show based on config
-        String displayTier;
-        String displayGamemode;
-        boolean isRetired;
-
-        if (ModConfig.shouldShowHighestTier()) {
-            // Show highest tier across all gamemodes
-            displayTier = tierData.getHighestTier();
-            displayGamemode = tierData.getHighestTierGamemode();
-
-            if (displayTier.equals("Unranked") || displayGamemode == null) {
-                return;
-            }
-
-            isRetired = tierData.isRetired(displayGamemode);
-        } else {
-            // Filter by selected gamemode
-            String selectedGamemode = ModConfig.getSelectedGamemode();
-
-            if (!tierData.hasTierForGamemode(selectedGamemode)) {
-                return;
-            }
+        renderTierLabel(resolveByName(playerName), config, matrices, vertexConsumers, light);
+    }
 
-            displayTier = tierData.getTierForGamemode(selectedGamemode);
-            displayGamemode = selectedGamemode;
-            isRetired = tierData.isRetired(selectedGamemode);
+    private static TierListAPI.PlayerTierData resolveByName(String playerName) {
+        NameMemo memo = nameMemos.get(playerName);
+        if (memo == null) {
+            memo = new NameMemo();
+            nameMemos.put(playerName, memo);
         }
 
-        // Add R prefix for retired tiers (e.g., "RHT3")
-        if (isRetired) {
-            displayTier = "R" + displayTier;
+        long generation = TierCache.getGeneration();
+        long now = System.currentTimeMillis();
+        if (generation != memo.generation || now - memo.resolvedAt > PlayerTierMemo.REVALIDATE_MS) {
+            // Don't render for local player; the profile name is a plain field, unlike getName().getString()
+            boolean localPlayer = client.player != null
+                && playerName.equals(CompatBridgeFactory.client().resolveProfileName(client.player.getGameProfile()));
+            memo.tierData = localPlayer ? null : TierCache.getTierData(playerName);
+            memo.generation = generation;
+            memo.resolvedAt = now;
         }
+        return memo.tierData;
+    }
 
-        // Build tier text in TierTagger format: [ICON] TIER
-        Text text = Text.empty();
-
-        // Add gamemode icon if enabled
-        if (ModConfig.shouldShowGamemode()) {
-            String icon = getGamemodeIcon(displayGamemode);
-            if (!icon.isEmpty()) {
-                text = Text.literal(icon + " ");
-            }
+    private static void renderTierLabel(TierListAPI.PlayerTierData tierData, ConfigSnapshot config, MatrixStack matrices, VertexConsumerProvider vertexConsumers, int light) {
+        if (tierData == null) {
+            return;
         }
 
-        // Add tier with color from config
-        int tierColor = ModConfig.getTierColor(displayTier);
-        text = text.copy().append(Text.literal(displayTier).styled(s -> s.withColor(tierColor)));
-
         TextRenderer textRenderer = client.textRenderer;
 
         if (textRenderer == null) {
             return;
         }
 
+        // Cached "[ICON] TIER" text and width, rebuilt only when the player's data or the config changes
+        TierTextCache.HudLabel label = TierTextCache.getHudLabel(tierData, config, textRenderer);
+
+        if (label == null) {
+            return;
+        }
+
         matrices.push();
         try {
             // Move up above the nametag (nametag is at y=0 in this context)
@@ -114,14 +117,14 @@ public class TierHudRenderer {
             Matrix4f matrix4f = matrices.peek().getPositionMatrix();
 
             // Center the text
-            float x = -textRenderer.getWidth(text) / 2.0f;
+            float x = -label.width() / 2.0f;
 
             // Render with background
             int backgroundColor = (int)(0.25F * 255.0F) << 24;
 
             CompatBridgeFactory.client().drawSeeThroughText(
                 textRenderer,
-                text,
+                label.text(),
                 x,
                 matrix4f,
                 vertexConsumers,
@@ -132,25 +135,4 @@ public class TierHudRenderer {
             matrices.pop();
         }
     }
-
-
-    /**
-     * Get gamemode icon (using custom font characters)
-     * These map to textures defined in assets/minecraft/font/default.json
-     */
-    private static String getGamemodeIcon(String gamemode) {
-        return switch (gamemode.toLowerCase()) {
-            case "sword" -> "\uE801"; // sword.png
-            case "cpvp", "crystal" -> "\uE800"; // vanilla.png (crystal)
-            case "netherite", "nethpot" -> "\uE803"; // neth_op.png
-            case "pot", "potion" -> "\uE802"; // pot.png
-            case "mace", "macepvp" -> "\uE807"; // mace.png
-            case "uhc" -> "\uE804"; // uhc.png
-            case "axe", "axepvp" -> "\uE805"; // axe.png
-            case "smp", "smpkit" -> "\uE806"; // smp.png
-            default -> "";
-        };
-    }
-
-
 }
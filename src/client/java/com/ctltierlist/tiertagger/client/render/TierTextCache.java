@@ -0,0 +1,202 @@
+package com.ctltierlist.tiertagger.client.render;
+
+import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.config.ConfigSnapshot;
+import com.ctltierlist.tiertagger.util.TierUtil;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Style;
+import net.minecraft.text.Text;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the decorated tier text built for each player.
+ *
+ * Entries are keyed by PlayerTierData identity, which changes whenever the leaderboard refresh
+ * changes a player, and stamped with the generation of the config snapshot they were built from. A hit is a map lookup and a field compare.
+ */
+public final class TierTextCache {
+    private static final Text SEPARATOR = Text.literal(" | ").setStyle(Style.EMPTY.withColor(0x808080));
+    private static final Map<TierListAPI.PlayerTierData, Entry> ENTRIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private TierTextCache() {}
+
+    /**
+     * Get the "[ICON] TIER | " prefix for a player's nametag
+     * @return the prefix, or null if nothing should be shown under this config
+     */
+    public static Text getNametagPrefix(TierListAPI.PlayerTierData tierData, ConfigSnapshot config) {
+        Entry entry = getEntry(tierData, config);
+        if (entry.display == null) {
+            return null;
+        }
+        Text prefix = entry.nametagPrefix;
+        if (prefix == null) {
+            prefix = buildNametagPrefix(entry.display, config);
+            entry.nametagPrefix = prefix;
+        }
+        return prefix;
+    }
+
+    /**
+     * Get the "[ICON] TIER" label drawn above a player's head, with its measured width
+     * @return the label, or null if nothing should be shown under this config
+     */
+    public static HudLabel getHudLabel(TierListAPI.PlayerTierData tierData, ConfigSnapshot config, TextRenderer textRenderer) {
+        Entry entry = getEntry(tierData, config);
+        if (entry.display == null) {
+            return null;
+        }
+        HudLabel label = entry.hudLabel;
+        if (label == null) {
+            Text text = buildHudLabel(entry.display, config);
+            label = new HudLabel(text, textRenderer.getWidth(text));
+            entry.hudLabel = label;
+        }
+        return label;
+    }
+
+    public static void clear() {
+        ENTRIES.clear();
+    }
+
+    private static Entry getEntry(TierListAPI.PlayerTierData tierData, ConfigSnapshot config) {
+        Entry entry = ENTRIES.get(tierData);
+        if (entry == null || entry.configGeneration != config.generation()) {
+            entry = new Entry(config.generation(), resolveDisplay(tierData, config));
+            ENTRIES.put(tierData, entry);
+        }
+        return entry;
+    }
+
+    private static Display resolveDisplay(TierListAPI.PlayerTierData tierData, ConfigSnapshot config) {
+        // Determine which tier to show based on config
+        String displayTier;
+        String displayGamemode;
+        boolean isRetired;
+
+        if (config.showHighestTier()) {
+            // Show highest tier across all gamemodes
+            displayTier = tierData.getHighestTier();
+            displayGamemode = tierData.getHighestTierGamemode();
+
+            if (displayTier.equals("Unranked") || displayGamemode == null) {
+                return null;
+            }
+
+            isRetired = tierData.isHighestTierRetired();
+        } else {
+            // Filter by selected gamemode
+            String selectedGamemode = config.selectedGamemode();
+
+            if (!tierData.hasTierForGamemode(selectedGamemode)) {
+                return null;
+            }
+
+            displayTier = tierData.getTierForGamemode(selectedGamemode);
+            displayGamemode = selectedGamemode;
+            isRetired = tierData.isRetired(selectedGamemode);
+        }
+
+        int tierCode = TierUtil.code(displayTier);
+
+        // Add R prefix for retired tiers (e.g., "RHT3")
+        if (isRetired) {
+            displayTier = "R" + displayTier;
+        }
+
+        return new Display(displayTier, displayGamemode, tierCode, isRetired);
+    }
+
+    private static Text buildNametagPrefix(Display display, ConfigSnapshot config) {
+        // Build tier text in TierTagger format: [ICON] TIER |
+        MutableText result = Text.empty();
+
+        // Add gamemode icon if enabled
+        if (config.showGamemode()) {
+            String icon = getGamemodeIcon(display.gamemode());
+            if (!icon.isEmpty()) {
+                result.append(Text.literal(icon + " "));
+            }
+        }
+
+        // Add colored tier from config (with optional gradient)
+        int tierColor = config.tierColor(display.tierCode(), display.retired());
+        if (!display.retired() && config.isGradientEnabled(display.tierCode())) {
+            // Apply gradient
+            int endColor = config.gradientColor(display.tierCode());
+            result.append(GradientText.of(display.tier(), tierColor, endColor));
+        } else {
+            // Single color
+            result.append(Text.literal(display.tier()).setStyle(Style.EMPTY.withColor(tierColor)));
+        }
+
+        // Add pipe separator
+        result.append(SEPARATOR);
+
+        return result;
+    }
+
+    private static Text buildHudLabel(Display display, ConfigSnapshot config) {
+        // Build tier text in TierTagger format: [ICON] TIER
+        MutableText result = Text.empty();
+
+        // Add gamemode icon if enabled
+        if (config.showGamemode()) {
+            String icon = getGamemodeIcon(display.gamemode());
+            if (!icon.isEmpty()) {
+                result.append(Text.literal(icon + " "));
+            }
+        }
+
+        // Add tier with color from config
+        int tierColor = config.tierColor(display.tierCode(), display.retired());
+        result.append(Text.literal(display.tier()).setStyle(Style.EMPTY.withColor(tierColor)));
+
+        return result;
+    }
+
+    /**
+     * Get gamemode icon (using custom font characters)
+     * These map to textures defined in assets/minecraft/font/default.json
+     * Falls back to text abbreviations if custom fonts don't render in nametags
+     */
+    private static String getGamemodeIcon(String gamemode) {
+        // Try custom font character, fallback to text if needed
+        return switch (gamemode.toLowerCase()) {
+            case "sword" -> "\uE801"; // sword icon
+            case "cpvp", "crystal" -> "\uE800"; // crystal icon
+            case "netherite", "nethpot" -> "\uE803"; // netherite icon
+            case "pot", "potion" -> "\uE802"; // pot icon
+            case "mace", "macepvp" -> "\uE807"; // mace icon
+            case "uhc" -> "\uE804"; // uhc icon
+            case "axe", "axepvp" -> "\uE805"; // axe icon
+            case "smp", "smpkit" -> "\uE806"; // smp icon
+            default -> "";
+        };
+    }
+
+    public record HudLabel(Text text, int width) {}
+
+    /**
+     * Resolved tier to show: display string (with R prefix when retired) plus its parsed TierUtil code
+     */
+    private record Display(String tier, String gamemode, int tierCode, boolean retired) {}
+
+    private static final class Entry {
+        final long configGeneration;
+        // Null when the player has nothing to show under this config
+        final Display display;
+        // Built lazily; the nametag may be requested off the render thread
+        volatile Text nametagPrefix;
+        volatile HudLabel hudLabel;
+
+        Entry(long configGeneration, Display display) {
+            this.configGeneration = configGeneration;
+            this.display = display;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ctltierlist.tiertagger.client.util;
+
+import com.ctltierlist.tiertagger.CTLTierTagger;
+import com.ctltierlist.tiertagger.util.FileUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * On-disk copy of downloaded skin and head PNGs, so textures survive restarts without a new download.
+ *
+ * Each entry is {@code <kind>/<key>.png} plus a {@code <key>.meta} file holding the fetch time and ETag.
+ * Entries older than TTL_MS are revalidated by the caller. File mtime records last use, and the
+ * least recently used entries are deleted once the cache grows past MAX_BYTES. The total size is
+ * measured once in init and then kept as a running total, so the directory is only walked to evict.
+ * All methods do blocking I/O and must be called off the client thread.
+ */
+final class SkinDiskCache {
+    private static final long TTL_MS = 24 * 60 * 60 * 1000L; // 24 hours
+    private static final long MAX_BYTES = 32L * 1024 * 1024; // 32 MB
+    private static final Object EVICT_LOCK = new Object();
+    private static volatile Path cacheDir;
+    // Bytes of PNGs on disk; approximate while puts race an eviction, resynced by every eviction walk
+    private static final AtomicLong totalBytes = new AtomicLong();
+
+    private SkinDiskCache() {}
+
+    /**
+     * A cached PNG with the validators it was fetched with
+     */
+    record Entry(byte[] data, String etag, long fetchedAt) {
+        boolean isFresh() {
+            return System.currentTimeMillis() - fetchedAt < TTL_MS;
+        }
+    }
+
+    /**
+     * Measure the existing cache, then enable it. Walks the directory once.
+     */
+    static void init(Path dir) {
+        long total = 0;
+        try {
+            total = scan(dir, null);
+        } catch (IOException e) {
+            CTLTierTagger.LOGGER.warn("Failed to scan skin cache: {}", e.getMessage());
+        }
+        totalBytes.set(total);
+        cacheDir = dir;
+    }
+
+    /**
+     * @return the cached entry, or null if there is none (or the disk cache is not initialized)
+     */
+    static Entry get(String kind, String key) {
+        Path dir = cacheDir;
+        if (dir == null) return null;
+
+        Path png = pngFile(dir, kind, key);
+        if (!Files.isRegularFile(png)) return null;
+
+        try {
+            byte[] data = Files.readAllBytes(png);
+            long fetchedAt = 0;
+            String etag = null;
+            Path meta = metaFile(dir, kind, key);
+            if (Files.isRegularFile(meta)) {
+                String[] lines = Files.readString(meta, StandardCharsets.UTF_8).split("\n", -1);
+                fetchedAt = Long.parseLong(lines[0].trim());
+                if (lines.length > 1 && !lines[1].isBlank()) etag = lines[1].trim();
+            }
+            // Mark as recently used for LRU eviction
+            Files.setLastModifiedTime(png, FileTime.fromMillis(System.currentTimeMillis()));
+            return new Entry(data, etag, fetchedAt);
+        } catch (IOException | NumberFormatException e) {
+            CTLTierTagger.LOGGER.warn("Failed to read cached {} for {}: {}", kind, key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store a freshly downloaded PNG, then evict old entries if the cache is over its size cap
+     */
+    static void put(String kind, String key, byte[] data, String etag) {
+        Path dir = cacheDir;
+        if (dir == null) return;
+
+        try {
+            Path png = pngFile(dir, kind, key);
+            Files.createDirectories(png.getParent());
+            long previousSize = Files.isRegularFile(png) ? Files.size(png) : 0;
+            Path tempFile = FileUtil.tempFileFor(png);
+            Files.write(tempFile, data);
+            FileUtil.replace(tempFile, png);
+            totalBytes.addAndGet(data.length - previousSize);
+            writeMeta(dir, kind, key, etag);
+        } catch (IOException e) {
+            CTLTierTagger.LOGGER.warn("Failed to cache {} for {}: {}", kind, key, e.getMessage());
+            return;
+        }
+        evictIfNeeded(dir);
+    }
+
+    /**
+     * Record that a stale entry was confirmed unchanged by the server (HTTP 304)
+     */
+    static void markValidated(String kind, String key, Entry entry) {
+        Path dir = cacheDir;
+        if (dir == null) return;
+
+        try {
+            writeMeta(dir, kind, key, entry.etag());
+        } catch (IOException e) {
+            CTLTierTagger.LOGGER.warn("Failed to update cached {} for {}: {}", kind, key, e.getMessage());
+        }
+    }
+
+    private static void writeMeta(Path dir, String kind, String key, String etag) throws IOException {
+        String meta = System.currentTimeMillis() + "\n" + (etag != null ? etag : "");
+        Files.writeString(metaFile(dir, kind, key), meta, StandardCharsets.UTF_8);
+    }
+
+    private static void evictIfNeeded(Path dir) {
+        if (totalBytes.get() <= MAX_BYTES) return;
+
+        synchronized (EVICT_LOCK) {
+            List<CachedFile> files = new ArrayList<>();
+            long total;
+            try {
+                total = scan(dir, files);
+            } catch (IOException e) {
+                CTLTierTagger.LOGGER.warn("Failed to scan skin cache: {}", e.getMessage());
+                return;
+            }
+            if (total <= MAX_BYTES) {
+                totalBytes.set(total);
+                return;
+            }
+
+            // Least recently used first
+            files.sort(Comparator.comparingLong(CachedFile::lastUsed));
+            int evicted = 0;
+            for (CachedFile file : files) {
+                if (total <= MAX_BYTES) break;
+                String name = file.png().getFileName().toString();
+                try {
+                    Files.deleteIfExists(file.png());
+                    Files.deleteIfExists(file.png().resolveSibling(name.substring(0, name.length() - 4) + ".meta"));
+                    total -= file.size();
+                    evicted++;
+                } catch (IOException e) {
+                    CTLTierTagger.LOGGER.warn("Failed to evict {}: {}", file.png(), e.getMessage());
+                }
+            }
+            totalBytes.set(total);
+            CTLTierTagger.LOGGER.info("Evicted {} cached skin files", evicted);
+        }
+    }
+
+    /**
+     * Walk the cache and total its PNG sizes, collecting each file if a list is given
+     */
+    private static long scan(Path dir, List<CachedFile> files) throws IOException {
+        if (!Files.isDirectory(dir)) return 0;
+
+        long total = 0;
+        try (Stream<Path> stream = Files.walk(dir, 2)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                if (!path.getFileName().toString().endsWith(".png")) continue;
+                long size = Files.size(path);
+                if (files != null) files.add(new CachedFile(path, size, Files.getLastModifiedTime(path).toMillis()));
+                total += size;
+            }
+        }
+        return total;
+    }
+
+    private record CachedFile(Path png, long size, long lastUsed) {}
+
+    private static Path pngFile(Path dir, String kind, String key) {
+        return dir.resolve(kind).resolve(sanitize(key) + ".png");
+    }
+
+    private static Path metaFile(Path dir, String kind, String key) {
+        return dir.resolve(kind).resolve(sanitize(key) + ".meta");
+    }
+
+    private static String sanitize(String key) {
+        // Minecraft names and UUIDs are already safe; guard against anything else reaching the filesystem
+        return key.replaceAll("[^a-z0-9_-]", "_");
+    }
+}
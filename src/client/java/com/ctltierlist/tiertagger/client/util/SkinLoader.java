@@ -1,6 +1,8 @@
 package com.ctltierlist.tiertagger.client.util;
 
 import com.ctltierlist.tiertagger.CTLTierTagger;
+import com.ctltierlist.tiertagger.api.HttpManager;
+import com.ctltierlist.tiertagger.config.ModConfig;
 import com.ctltierlist.tiertagger.version.compat.CompatBridgeFactory;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.widget.PlayerSkinWidget;
@@ -8,26 +10,40 @@ import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.NativeImageBackedTexture;
 import net.minecraft.util.Identifier;
 
-import java.io.InputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class SkinLoader {
-    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
-    
-    private static final String SKIN_DOWNLOAD_URL = "https://mineskin.eu/download/";
+    private static final String SKIN_URL = "https://mineskin.eu/skin/";
     private static final String HEAD_URL = "https://mineskin.eu/helm/";
+    // How long a failed download is remembered before the name may be retried
+    private static final long FAILURE_TTL_MS = 30_000;
+    // Registered textures kept per type; the least recently used is destroyed past this
+    private static final int MAX_SKIN_TEXTURES = 32;
+    private static final int MAX_HEAD_TEXTURES = 128;
+    private static final int IO_THREADS = 4;
+    
+    // Small bounded pool for disk cache I/O and PNG decoding, kept off the shared common pool
+    private static final ExecutorService IO_EXECUTOR = Executors.newFixedThreadPool(
+            IO_THREADS, Thread.ofVirtual().name("CTL-TierTagger-SkinIO-", 0).factory());
+    private static final Executor CLIENT_EXECUTOR = runnable -> MinecraftClient.getInstance().execute(runnable);
     
-    private static final Map<String, Identifier> skinCache = new ConcurrentHashMap<>();
-    private static final Map<String, Identifier> headCache = new ConcurrentHashMap<>();
+    private static final TextureKind SKINS = new TextureKind("skin", SKIN_URL, "skins", MAX_SKIN_TEXTURES);
+    private static final TextureKind HEADS = new TextureKind("head", HEAD_URL, "heads", MAX_HEAD_TEXTURES);
     private static final Map<String, java.util.UUID> uuidCache = new ConcurrentHashMap<>();
     
     /**
@@ -41,12 +57,8 @@ public class SkinLoader {
         
         try {
             String url = "https://api.mojang.com/users/profiles/minecraft/" + playerName;
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofSeconds(5))
-                .GET()
-                .build();
-            HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpRequest request = HttpManager.get(url, HttpManager.Timeout.SEARCH).build();
+            HttpResponse<String> response = HttpManager.send(request, HttpResponse.BodyHandlers.ofString());
             
             if (response.statusCode() == 200 && !response.body().isEmpty()) {
                 // Parse JSON using Gson: {"id":"uuid-without-dashes","name":"PlayerName"}
@@ -71,107 +83,37 @@ public class SkinLoader {
         return null;
     }
     
+    /**
+     * Enable the on-disk texture cache under the mod's config directory
+     */
+    public static void init(Path configDir) {
+        // Measuring the disk cache walks it once; keep that off the client thread
+        Path skinDir = configDir.resolve("ctl-tiertagger").resolve("skins");
+        IO_EXECUTOR.execute(() -> SkinDiskCache.init(skinDir));
+    }
+    
     /**
      * Load full skin texture for 3D rendering
      */
     public static CompletableFuture<Identifier> loadSkinTexture(String playerName) {
-        // Check cache first
-        if (skinCache.containsKey(playerName.toLowerCase())) {
-            return CompletableFuture.completedFuture(skinCache.get(playerName.toLowerCase()));
-        }
-        
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String url = SKIN_DOWNLOAD_URL + playerName;
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .timeout(Duration.ofSeconds(10))
-                        .GET()
-                        .build();
-
-                HttpResponse<InputStream> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
-
-                if (response.statusCode() == 200) {
-                    try (InputStream inputStream = response.body()) {
-                        NativeImage image = NativeImage.read(inputStream);
-                        
-                        // Register texture on client thread
-                        Identifier textureId = Identifier.of("ctl-tiertagger", "skins/" + playerName.toLowerCase());
-                        
-                        // Wait for texture registration to complete
-                        CompletableFuture<Void> registrationFuture = new CompletableFuture<>();
-                        MinecraftClient.getInstance().execute(() -> {
-                            try {
-                                MinecraftClient.getInstance().getTextureManager()
-                                        .registerTexture(textureId, createNativeImageTexture(image));
-                                registrationFuture.complete(null);
-                            } catch (Exception e) {
-                                registrationFuture.completeExceptionally(e);
-                            }
-                        });
-                        
-                        registrationFuture.join(); // Wait for registration
-                        
-                        skinCache.put(playerName.toLowerCase(), textureId);
-                        CTLTierTagger.LOGGER.info("Loaded skin for {}: {}", playerName, textureId);
-                        
-                        return textureId;
-                    }
-                } else {
-                    CTLTierTagger.LOGGER.warn("Failed to load skin for {}: HTTP {}", playerName, response.statusCode());
-                    return null;
-                }
-            } catch (Exception e) {
-                CTLTierTagger.LOGGER.error("Error loading skin for {}: {}", playerName, e.getMessage());
-                return null;
-            }
-        });
+        return load(SKINS, playerName);
     }
     
     /**
      * Load skin and create a PlayerSkinWidget with correct size (60x144)
-     * Downloads skin directly from mineskin.eu and creates SkinTextures manually
+     * Shares the skin texture download with {@link #loadSkinTexture(String)}
      */
     public static CompletableFuture<PlayerSkinWidget> loadSkinAndCreateWidget(String playerName, MinecraftClient client) {
-        return CompletableFuture.supplyAsync(() -> {
+        return load(SKINS, playerName).thenApply(textureId -> {
+            if (textureId == null) {
+                return null;
+            }
             try {
-                // 1. Download skin from mineskin.eu
-                String url = "https://mineskin.eu/skin/" + playerName;
-                HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofSeconds(10))
-                    .GET()
-                    .build();
-
-                HttpResponse<InputStream> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
-
-                if (response.statusCode() != 200) {
-                    CTLTierTagger.LOGGER.warn("Failed to download skin for {}: HTTP {}", playerName, response.statusCode());
-                    return null;
-                }
-
-                // 2. Register texture
-                Identifier textureId = Identifier.of("ctl-tiertagger", "skins/" + playerName.toLowerCase());
-                try (InputStream inputStream = response.body()) {
-                    NativeImage image = NativeImage.read(inputStream);
-                    
-                    CompletableFuture<Void> registrationFuture = new CompletableFuture<>();
-                    client.execute(() -> {
-                        try {
-                            client.getTextureManager().registerTexture(textureId, createNativeImageTexture(image));
-                            registrationFuture.complete(null);
-                        } catch (Exception e) {
-                            registrationFuture.completeExceptionally(e);
-                        }
-                    });
-                    registrationFuture.join();
-                }
-
-                // 3. Create PlayerSkinWidget through compatibility bridge
+                // Create PlayerSkinWidget through compatibility bridge
                 PlayerSkinWidget widget = CompatBridgeFactory.client().createPlayerSkinWidget(
                     client,
                     textureId,
-                    url,
+                    SKIN_URL + playerName,
                     60,
                     144
                 );
@@ -189,47 +131,140 @@ public class SkinLoader {
      * Load head texture for 2D rendering (search results)
      */
     public static CompletableFuture<Identifier> loadHeadTexture(String playerName) {
-        // Check cache first
-        if (headCache.containsKey(playerName.toLowerCase())) {
-            return CompletableFuture.completedFuture(headCache.get(playerName.toLowerCase()));
+        return load(HEADS, playerName);
+    }
+    
+    /**
+     * Single-flight texture load: concurrent callers for the same name share one download,
+     * successes move into the bounded loaded cache and failures are remembered for FAILURE_TTL_MS.
+     * The returned future completes with null on failure.
+     */
+    private static CompletableFuture<Identifier> load(TextureKind kind, String playerName) {
+        String key = playerName.toLowerCase();
+        
+        Identifier cached = kind.getLoaded(key);
+        if (cached != null) {
+            kind.hits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached);
+        }
+        kind.misses.incrementAndGet();
+        if (isRecentFailure(kind, key)) {
+            return CompletableFuture.completedFuture(null);
         }
         
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String url = HEAD_URL + playerName;
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .timeout(Duration.ofSeconds(10))
-                        .GET()
-                        .build();
-
-                HttpResponse<InputStream> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
-
-                if (response.statusCode() == 200) {
-                    try (InputStream inputStream = response.body()) {
-                        NativeImage image = NativeImage.read(inputStream);
-                        
-                        // Register texture on client thread
-                        Identifier textureId = Identifier.of("ctl-tiertagger", "heads/" + playerName.toLowerCase());
-                        
-                        MinecraftClient.getInstance().execute(() -> {
-                            MinecraftClient.getInstance().getTextureManager()
-                                    .registerTexture(textureId, createNativeImageTexture(image));
-                        });
-                        
-                        headCache.put(playerName.toLowerCase(), textureId);
-                        CTLTierTagger.LOGGER.info("Loaded head for {}", playerName);
-                        return textureId;
-                    }
-                } else {
-                    CTLTierTagger.LOGGER.warn("Failed to load head for {}: HTTP {}", playerName, response.statusCode());
-                    return null;
-                }
-            } catch (Exception e) {
-                CTLTierTagger.LOGGER.error("Error loading head for {}: {}", playerName, e.getMessage());
-                return null;
+        CompletableFuture<Identifier> pending = new CompletableFuture<>();
+        CompletableFuture<Identifier> existing = kind.inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return existing;
+        }
+        
+        // A load may have finished between the cache check and claiming the slot; results are
+        // stored before the in-flight entry is removed, so checking again here is enough
+        cached = kind.getLoaded(key);
+        if (cached != null || isRecentFailure(kind, key)) {
+            kind.inFlight.remove(key, pending);
+            pending.complete(cached);
+            return pending;
+        }
+        
+        download(kind, playerName, key).whenComplete((textureId, error) -> {
+            if (textureId != null) {
+                kind.putLoaded(key, textureId);
+            } else {
+                kind.failedUntil.put(key, System.currentTimeMillis() + FAILURE_TTL_MS);
             }
+            kind.inFlight.remove(key, pending);
+            pending.complete(textureId);
         });
+        return pending;
+    }
+    
+    private static boolean isRecentFailure(TextureKind kind, String key) {
+        Long failedUntil = kind.failedUntil.get(key);
+        if (failedUntil == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() < failedUntil) {
+            return true;
+        }
+        kind.failedUntil.remove(key, failedUntil);
+        return false;
+    }
+    
+    /**
+     * Fully asynchronous load: disk cache and network on IO_EXECUTOR, PNG decode on IO_EXECUTOR,
+     * texture upload on the client thread. No thread waits on another stage.
+     * Completes with null on failure.
+     */
+    private static CompletableFuture<Identifier> download(TextureKind kind, String playerName, String key) {
+        return CompletableFuture.supplyAsync(() -> SkinDiskCache.get(kind.directory, key), IO_EXECUTOR)
+                .thenCompose(cached -> fetchPng(kind, playerName, key, cached))
+                .thenApplyAsync(png -> png != null ? decode(png) : null, IO_EXECUTOR)
+                .thenApplyAsync(image -> image != null ? register(kind, playerName, key, image) : null, CLIENT_EXECUTOR)
+                .exceptionally(e -> {
+                    CTLTierTagger.LOGGER.error("Error loading {} for {}: {}", kind.label, playerName, e.getMessage());
+                    return null;
+                });
+    }
+    
+    /**
+     * Get the PNG bytes for a texture: from the disk cache while fresh, otherwise from mineskin.eu,
+     * revalidating a stale disk copy with its ETag. A stale copy is still used if the download fails.
+     */
+    private static CompletableFuture<byte[]> fetchPng(TextureKind kind, String playerName, String key, SkinDiskCache.Entry cached) {
+        if (cached != null && cached.isFresh()) {
+            return CompletableFuture.completedFuture(cached.data());
+        }
+        
+        HttpRequest.Builder builder = HttpManager.get(kind.url + playerName, HttpManager.Timeout.TEXTURE);
+        if (cached != null && cached.etag() != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+
+        return HttpManager.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofByteArray()).handleAsync((response, error) -> {
+            if (error != null) {
+                CTLTierTagger.LOGGER.warn("Failed to download {} for {}: {}", kind.label, playerName, error.getMessage());
+            } else if (response.statusCode() == 304 && cached != null) {
+                SkinDiskCache.markValidated(kind.directory, key, cached);
+                return cached.data();
+            } else if (response.statusCode() == 200) {
+                byte[] png = response.body();
+                SkinDiskCache.put(kind.directory, key, png, response.headers().firstValue("ETag").orElse(null));
+                return png;
+            } else {
+                CTLTierTagger.LOGGER.warn("Failed to load {} for {}: HTTP {}", kind.label, playerName, response.statusCode());
+            }
+            
+            if (cached != null) {
+                CTLTierTagger.LOGGER.info("Using stale cached {} for {}", kind.label, playerName);
+                return cached.data();
+            }
+            return null;
+        }, IO_EXECUTOR);
+    }
+    
+    private static NativeImage decode(byte[] png) {
+        try {
+            return NativeImage.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Upload a decoded image; must run on the client thread
+     */
+    private static Identifier register(TextureKind kind, String playerName, String key, NativeImage image) {
+        Identifier textureId = Identifier.of("ctl-tiertagger", kind.directory + "/" + key);
+        try {
+            MinecraftClient.getInstance().getTextureManager()
+                    .registerTexture(textureId, createNativeImageTexture(image));
+        } catch (Exception e) {
+            image.close();
+            throw e;
+        }
+        CTLTierTagger.LOGGER.info("Loaded {} for {}: {}", kind.label, playerName, textureId);
+        return textureId;
     }
     
     private static NativeImageBackedTexture createNativeImageTexture(NativeImage image) {
@@ -248,10 +283,119 @@ public class SkinLoader {
     }
 
     /**
-     * Clear all cached textures
+     * Keep a player's skin texture loaded while a screen shows it; the LRU never evicts a pinned texture.
+     * Every pin must be matched by {@link #unpinSkin(String)} once the screen closes.
+     */
+    public static void pinSkin(String playerName) {
+        SKINS.pin(playerName.toLowerCase());
+    }
+
+    public static void unpinSkin(String playerName) {
+        SKINS.unpin(playerName.toLowerCase());
+    }
+
+    public static TextureCacheStats getSkinCacheStats() {
+        return SKINS.stats();
+    }
+    
+    public static TextureCacheStats getHeadCacheStats() {
+        return HEADS.stats();
+    }
+    
+    /**
+     * Clear all cached textures and release them from the texture manager, except pinned ones
      */
     public static void clearCache() {
-        skinCache.clear();
-        headCache.clear();
+        SKINS.clear();
+        HEADS.clear();
+    }
+    
+    public record TextureCacheStats(int size, int capacity, long hits, long misses, long evictions) {}
+    
+    /**
+     * Per texture type state, keyed by lowercase player name
+     */
+    private static final class TextureKind {
+        final String label;
+        final String url;
+        // Texture path prefix, also used as the disk cache subdirectory
+        final String directory;
+        final int capacity;
+        // Access-ordered, so iteration starts at the least recently used texture
+        private final LinkedHashMap<String, Identifier> loaded = new LinkedHashMap<>(16, 0.75f, true);
+        // Pin counts of textures an open screen is drawing; these are skipped by eviction and clear()
+        private final Map<String, Integer> pinned = new HashMap<>();
+        final Map<String, CompletableFuture<Identifier>> inFlight = new ConcurrentHashMap<>();
+        final Map<String, Long> failedUntil = new ConcurrentHashMap<>();
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final AtomicLong evictions = new AtomicLong();
+        
+        TextureKind(String label, String url, String directory, int capacity) {
+            this.label = label;
+            this.url = url;
+            this.directory = directory;
+            this.capacity = capacity;
+        }
+        
+        synchronized Identifier getLoaded(String key) {
+            return loaded.get(key);
+        }
+        
+        synchronized void putLoaded(String key, Identifier textureId) {
+            loaded.put(key, textureId);
+            trim();
+        }
+
+        synchronized void pin(String key) {
+            pinned.merge(key, 1, Integer::sum);
+        }
+
+        synchronized void unpin(String key) {
+            pinned.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+            // Anything kept over capacity while pinned can go now
+            trim();
+        }
+
+        private void trim() {
+            // Called with the lock held; pinned textures stay even if that leaves the cache over capacity
+            Iterator<Map.Entry<String, Identifier>> eldest = loaded.entrySet().iterator();
+            while (loaded.size() > capacity && eldest.hasNext()) {
+                Map.Entry<String, Identifier> entry = eldest.next();
+                if (pinned.containsKey(entry.getKey())) {
+                    continue;
+                }
+                eldest.remove();
+                release(entry.getValue());
+                evictions.incrementAndGet();
+                if (ModConfig.isDebugMode()) {
+                    CTLTierTagger.LOGGER.info("Evicted {} texture {} ({}/{} loaded, {} hits, {} misses, {} evictions)",
+                        label, entry.getValue(), loaded.size(), capacity, hits.get(), misses.get(), evictions.get());
+                }
+            }
+        }
+        
+        synchronized TextureCacheStats stats() {
+            return new TextureCacheStats(loaded.size(), capacity, hits.get(), misses.get(), evictions.get());
+        }
+        
+        synchronized void clear() {
+            // In-flight downloads are left to finish; their result lands in the cleared cache
+            Iterator<Map.Entry<String, Identifier>> it = loaded.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, Identifier> entry = it.next();
+                if (!pinned.containsKey(entry.getKey())) {
+                    it.remove();
+                    release(entry.getValue());
+                }
+            }
+            failedUntil.clear();
+        }
+        
+        private static void release(Identifier textureId) {
+            // Textures are owned by the client thread; destroying also closes the NativeImage
+            MinecraftClient client = MinecraftClient.getInstance();
+            client.execute(() -> client.getTextureManager().destroyTexture(textureId));
+        }
     }
 }
@@ -0,0 +1,92 @@
+package com.ctltierlist.tiertagger.client.util;
+
+import com.ctltierlist.tiertagger.CTLTierTagger;
+import com.ctltierlist.tiertagger.cache.TierCache;
+import com.ctltierlist.tiertagger.config.ModConfig;
+import com.ctltierlist.tiertagger.version.compat.CompatBridgeFactory;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.client.network.PlayerListEntry;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Warms tier data for everyone on the server right after joining, instead of waiting for each
+ * nametag to render. The tab list is walked once, shortly after join, and the names are fed to
+ * TierCache a few per tick so the lookups never cost a frame. Names wait here while the prefetch
+ * queue is full, so large servers are warmed completely, just more slowly.
+ *
+ * Only useful with profile prefetching enabled: leaderboard players are already in memory.
+ */
+public final class TabListScanner {
+    // The server sends its player list just after the join packet; give it time to arrive
+    private static final int SCAN_DELAY_TICKS = 40;
+    private static final int NAMES_PER_TICK = 8;
+
+    // Only touched on the client thread
+    private static final Deque<String> pending = new ArrayDeque<>();
+    private static int ticksUntilScan = -1;
+    // Set from the connection events, which are not guaranteed to run on the client thread
+    private static volatile boolean joined = false;
+    private static volatile boolean disconnected = false;
+
+    private TabListScanner() {}
+
+    public static void register() {
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> joined = true);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> disconnected = true);
+        ClientTickEvents.END_CLIENT_TICK.register(TabListScanner::tick);
+    }
+
+    private static void tick(MinecraftClient client) {
+        if (disconnected) {
+            disconnected = false;
+            pending.clear();
+            ticksUntilScan = -1;
+        }
+        if (joined) {
+            joined = false;
+            pending.clear();
+            ticksUntilScan = SCAN_DELAY_TICKS;
+        }
+
+        if (ticksUntilScan > 0 && --ticksUntilScan == 0) {
+            scan(client);
+        }
+
+        for (int i = 0; i < NAMES_PER_TICK && !pending.isEmpty(); i++) {
+            // Backpressure: a full prefetch queue, or a leaderboard still loading, refuses the name; keep it and try again next tick
+            if (!TierCache.prefetch(pending.peek())) {
+                break;
+            }
+            pending.poll();
+        }
+    }
+
+    private static void scan(MinecraftClient client) {
+        if (!ModConfig.isEnabled() || !ModConfig.shouldPrefetchProfiles()) {
+            return;
+        }
+        ClientPlayNetworkHandler handler = client.getNetworkHandler();
+        if (handler == null) {
+            return;
+        }
+
+        String localName = client.player != null
+            ? CompatBridgeFactory.client().resolveProfileName(client.player.getGameProfile())
+            : null;
+        for (PlayerListEntry entry : handler.getPlayerList()) {
+            String name = CompatBridgeFactory.client().resolveProfileName(entry.getProfile());
+            if (name != null && !name.isEmpty() && !name.equals(localName)) {
+                pending.add(name);
+            }
+        }
+
+        if (ModConfig.isDebugMode()) {
+            CTLTierTagger.LOGGER.info("Tab list scan queued {} players for tier lookup", pending.size());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ctltierlist.tiertagger.version.compat;
 
+import com.mojang.authlib.GameProfile;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.widget.PlayerSkinWidget;
@@ -18,4 +19,8 @@ public interface ClientCompatBridge {
     KeyBinding createKeyBinding(String translationKey, int keyCode, String category);
 
     String resolvePlayerName(Object renderLabelContext);
+
+    String resolveProfileName(GameProfile profile);
+
+    void onResourceReload(Identifier id, Runnable callback);
 }
@@ -1,13 +1,19 @@
 package com.ctltierlist.tiertagger.version.compat;
 
+import com.ctltierlist.tiertagger.CTLTierTagger;
 import com.ctltierlist.tiertagger.version.MinecraftVersion;
 import com.ctltierlist.tiertagger.version.VersionSupport;
+import com.mojang.authlib.GameProfile;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.widget.PlayerSkinWidget;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.util.InputUtil;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import org.joml.Matrix4f;
@@ -58,32 +64,82 @@ public class ClientCompatBridge121 implements ClientCompatBridge {
         return createKeyBindingReflect(translationKey, keyCode, category, false);
     }
 
+    // Public name fields of each render-label context class, looked up once per class
+    private static final ClassValue<NameFields> NAME_FIELDS = new ClassValue<>() {
+        @Override
+        protected NameFields computeValue(Class<?> type) {
+            return new NameFields(findField(type, "name"), findField(type, "playerName"));
+        }
+    };
+
+    private record NameFields(Field name, Field playerName) {}
+
+    private static Field findField(Class<?> type, String name) {
+        try {
+            return type.getField(name);
+        } catch (NoSuchFieldException | SecurityException e) {
+            return null;
+        }
+    }
+
     @Override
     public String resolvePlayerName(Object renderLabelContext) {
-        try {
-            Field nameField = renderLabelContext.getClass().getField("name");
-            Object nameValue = nameField.get(renderLabelContext);
-            if (nameValue instanceof String name && !name.isBlank()) {
-                return name;
+        NameFields fields = NAME_FIELDS.get(renderLabelContext.getClass());
+
+        if (fields.name() != null) {
+            try {
+                Object nameValue = fields.name().get(renderLabelContext);
+                if (nameValue instanceof String name && !name.isBlank()) {
+                    return name;
+                }
+            } catch (Exception ignored) {
             }
-        } catch (Exception ignored) {
         }
 
-        try {
-            Field playerNameField = renderLabelContext.getClass().getField("playerName");
-            Object playerNameValue = playerNameField.get(renderLabelContext);
-            if (playerNameValue instanceof Text playerNameText) {
-                String extracted = playerNameText.getString();
-                if (!extracted.isBlank()) {
-                    return extracted;
+        if (fields.playerName() != null) {
+            try {
+                Object playerNameValue = fields.playerName().get(renderLabelContext);
+                if (playerNameValue instanceof Text playerNameText) {
+                    String extracted = playerNameText.getString();
+                    if (!extracted.isBlank()) {
+                        return extracted;
+                    }
                 }
+            } catch (Exception ignored) {
             }
-        } catch (Exception ignored) {
         }
 
         return null;
     }
 
+    // Record-style GameProfile accessor (newer authlib), resolved on first use
+    private volatile Method profileNameAccessor = null;
+
+    @Override
+    public String resolveProfileName(GameProfile profile) {
+        if (profile == null) {
+            return null;
+        }
+        if (profileNameAccessor == null) {
+            try {
+                return profile.getName();
+            } catch (NoSuchMethodError ignored) {
+                // authlib turned GameProfile into a record; fall through to name()
+            }
+            try {
+                profileNameAccessor = GameProfile.class.getMethod("name");
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+        try {
+            Object name = profileNameAccessor.invoke(profile);
+            return name instanceof String value ? value : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     // Cached category object for reuse across multiple keybindings
     private Object cachedCategory = null;
     private Class<?> cachedCategoryClass = null;
@@ -213,4 +269,23 @@ public class ClientCompatBridge121 implements ClientCompatBridge {
             throw new RuntimeException("Failed to create KeyBinding via reflection: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public void onResourceReload(Identifier id, Runnable callback) {
+        try {
+            ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+                @Override
+                public Identifier getFabricId() {
+                    return id;
+                }
+
+                @Override
+                public void reload(ResourceManager manager) {
+                    callback.run();
+                }
+            });
+        } catch (LinkageError e) {
+            CTLTierTagger.LOGGER.warn("Could not register resource reload listener {}: {}", id, e.getMessage());
+        }
+    }
 }
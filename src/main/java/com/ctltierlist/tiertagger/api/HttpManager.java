@@ -0,0 +1,175 @@
+package com.ctltierlist.tiertagger.api;
+
+import com.ctltierlist.tiertagger.config.ModConfig;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The single HttpClient used by the whole mod, so the leaderboard refresh, profile lookups and
+ * skin downloads share one connection pool (HTTP/2 where the server supports it).
+ *
+ * Every request goes through a per-host concurrency limit. Requests over the limit wait in a FIFO
+ * queue; a slot is held until the response headers arrive. Request counts and latency are recorded per host.
+ */
+public final class HttpManager {
+    public static final String API_HOST = "api.centraltierlist.com";
+    private static final int DEFAULT_HOST_LIMIT = 4;
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private static final Map<String, Host> HOSTS = new ConcurrentHashMap<>();
+
+    private HttpManager() {}
+
+    /**
+     * Total time allowed for a request, by kind of request
+     */
+    public enum Timeout {
+        SEARCH(Duration.ofSeconds(10)),
+        PROFILE(Duration.ofSeconds(15)),
+        TEXTURE(Duration.ofSeconds(10)),
+        LEADERBOARD(Duration.ofSeconds(60));
+
+        private final Duration duration;
+
+        Timeout(Duration duration) {
+            this.duration = duration;
+        }
+    }
+
+    public record HostStats(String host, long requests, long failures, long averageLatencyMs, long maxLatencyMs, int inFlight, int queued) {}
+
+    /**
+     * Start a GET request for a URL with the given timeout profile
+     * @throws IllegalArgumentException if the URL is invalid
+     */
+    public static HttpRequest.Builder get(String url, Timeout timeout) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout.duration)
+                .GET();
+    }
+
+    /**
+     * Send a request asynchronously within its host's concurrency limit
+     */
+    public static <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        Host host = host(request.uri().getHost());
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        host.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                HTTP_CLIENT.sendAsync(request, bodyHandler).whenComplete((response, error) -> {
+                    host.finish(start, error == null);
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(response);
+                    }
+                });
+            } catch (RuntimeException e) {
+                host.finish(start, false);
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Blocking variant of {@link #sendAsync}, for callers already on their own background thread
+     */
+    public static <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        try {
+            return sendAsync(request, bodyHandler).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw new IOException(cause);
+        }
+    }
+
+    public static HostStats getStats(String host) {
+        return host(host).stats();
+    }
+
+    public static Map<String, HostStats> getAllStats() {
+        Map<String, HostStats> stats = new ConcurrentHashMap<>();
+        HOSTS.forEach((name, host) -> stats.put(name, host.stats()));
+        return stats;
+    }
+
+    private static Host host(String name) {
+        return HOSTS.computeIfAbsent(name != null ? name : "", Host::new);
+    }
+
+    private static final class Host {
+        private final String name;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int inFlight = 0;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalLatencyMs = new LongAdder();
+        private volatile long maxLatencyMs = 0;
+
+        Host(String name) {
+            this.name = name;
+        }
+
+        int limit() {
+            // The tier list API limit is user-configurable; other hosts use a fixed default
+            return API_HOST.equals(name) ? ModConfig.getMaxConcurrentRequests() : DEFAULT_HOST_LIMIT;
+        }
+
+        void submit(Runnable start) {
+            synchronized (this) {
+                if (inFlight >= limit()) {
+                    waiting.add(start);
+                    return;
+                }
+                inFlight++;
+            }
+            start.run();
+        }
+
+        void finish(long startNanos, boolean success) {
+            long latencyMs = (System.nanoTime() - startNanos) / 1_000_000;
+            requests.increment();
+            if (!success) failures.increment();
+            totalLatencyMs.add(latencyMs);
+            if (latencyMs > maxLatencyMs) maxLatencyMs = latencyMs;
+
+            Runnable next;
+            synchronized (this) {
+                // Hand the slot straight to the next waiting request, unless the limit was lowered meanwhile
+                next = inFlight <= limit() ? waiting.poll() : null;
+                if (next == null) {
+                    inFlight--;
+                    return;
+                }
+            }
+            next.run();
+        }
+
+        synchronized HostStats stats() {
+            long count = requests.sum();
+            long average = count > 0 ? totalLatencyMs.sum() / count : 0;
+            return new HostStats(name, count, failures.sum(), average, maxLatencyMs, inFlight, waiting.size());
+        }
+    }
+}
@@ -1,30 +1,33 @@
 package com.ctltierlist.tiertagger.api;
 
 import com.ctltierlist.tiertagger.CTLTierTagger;
+import com.ctltierlist.tiertagger.config.ModConfig;
 import com.ctltierlist.tiertagger.util.GamemodeUtil;
+import com.ctltierlist.tiertagger.util.TierUtil;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
-import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class TierListAPI {
     private static final String API_BASE_URL = "https://api.centraltierlist.com";
-    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(10))
-            .build();
     private static final Gson GSON = new Gson();
+    // Response parsing runs here rather than on the shared common pool
+    private static final ExecutorService API_EXECUTOR = Executors.newFixedThreadPool(
+            2, Thread.ofPlatform().daemon().name("CTL-TierTagger-API-", 0).factory());
 
     /**
      * Fetch player profile data from the API
@@ -32,28 +35,30 @@ public class TierListAPI {
      * @return CompletableFuture with PlayerTierData
      */
     public static CompletableFuture<PlayerTierData> fetchPlayerTier(String playerName) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String url = API_BASE_URL + "/api/search_profile/" + playerName;
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .timeout(Duration.ofSeconds(15))
-                        .GET()
-                        .build();
-
-                HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    JsonObject json = JsonParser.parseString(response.body()).getAsJsonObject();
-                    return parsePlayerData(json, playerName);
-                } else {
-                    CTLTierTagger.LOGGER.warn("Failed to fetch tier for {}: HTTP {}", playerName, response.statusCode());
-                    return null;
-                }
-            } catch (Exception e) {
-                CTLTierTagger.LOGGER.error("Error fetching tier for {}: {}", playerName, e.getMessage());
+        HttpRequest request;
+        try {
+            String url = API_BASE_URL + "/api/search_profile/" + playerName;
+            request = HttpManager.get(url, HttpManager.Timeout.PROFILE).build();
+        } catch (IllegalArgumentException e) {
+            CTLTierTagger.LOGGER.error("Error fetching tier for {}: {}", playerName, e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (ModConfig.isDebugMode()) {
+            CTLTierTagger.LOGGER.info("Fetching tiers for {} ({} queued, {} in flight)", playerName, getQueueDepth(), getInFlightRequests());
+        }
+
+        return HttpManager.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApplyAsync(response -> {
+            if (response.statusCode() == 200) {
+                JsonObject json = JsonParser.parseString(response.body()).getAsJsonObject();
+                return parsePlayerData(json, playerName);
+            } else {
+                CTLTierTagger.LOGGER.warn("Failed to fetch tier for {}: HTTP {}", playerName, response.statusCode());
                 return null;
             }
+        }, API_EXECUTOR).exceptionally(e -> {
+            CTLTierTagger.LOGGER.error("Error fetching tier for {}: {}", playerName, e.getMessage());
+            return null;
         });
     }
 
@@ -63,63 +68,79 @@ public class TierListAPI {
      * @return CompletableFuture with list of PlayerSearchResult
      */
     public static CompletableFuture<List<PlayerSearchResult>> searchPlayers(String query) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String url = API_BASE_URL + "/api/search_profile/" + query.replace(" ", "%20");
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .timeout(Duration.ofSeconds(10))
-                        .GET()
-                        .build();
-
-                HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    List<PlayerSearchResult> players = new ArrayList<>();
+        HttpRequest request;
+        try {
+            String url = API_BASE_URL + "/api/search_profile/" + query.replace(" ", "%20");
+            request = HttpManager.get(url, HttpManager.Timeout.SEARCH).build();
+        } catch (IllegalArgumentException e) {
+            CTLTierTagger.LOGGER.error("Error searching players: {}", e.getMessage());
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        return HttpManager.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApplyAsync(response -> {
+            if (response.statusCode() == 200) {
+                return parseSearchResults(response.body(), query);
+            } else {
+                CTLTierTagger.LOGGER.warn("Failed to search player {}: HTTP {}", query, response.statusCode());
+                return new ArrayList<PlayerSearchResult>();
+            }
+        }, API_EXECUTOR).exceptionally(e -> {
+            CTLTierTagger.LOGGER.error("Error searching players: {}", e.getMessage());
+            return new ArrayList<>();
+        });
+    }
+
+    private static List<PlayerSearchResult> parseSearchResults(String body, String query) {
+        List<PlayerSearchResult> players = new ArrayList<>();
+        
+        try {
+            JsonObject json = JsonParser.parseString(body).getAsJsonObject();
+            
+            if (json.has("profile")) {
+                JsonObject profile = json.getAsJsonObject("profile");
+                String playerName = profile.has("ingameName") ? profile.get("ingameName").getAsString() : query;
+                String uuid = profile.has("uuid") ? profile.get("uuid").getAsString() : "";
+                
+                // Get highest tier from ranks
+                String tier = "Unranked";
+                if (json.has("ranks")) {
+                    JsonObject ranks = json.getAsJsonObject("ranks");
+                    int bestTierValue = 999;
                     
-                    try {
-                        JsonObject json = JsonParser.parseString(response.body()).getAsJsonObject();
-                        
-                        if (json.has("profile")) {
-                            JsonObject profile = json.getAsJsonObject("profile");
-                            String playerName = profile.has("ingameName") ? profile.get("ingameName").getAsString() : query;
-                            String uuid = profile.has("uuid") ? profile.get("uuid").getAsString() : "";
-                            
-                            // Get highest tier from ranks
-                            String tier = "Unranked";
-                            if (json.has("ranks")) {
-                                JsonObject ranks = json.getAsJsonObject("ranks");
-                                int bestTierValue = 999;
-                                
-                                for (String gamemode : ranks.keySet()) {
-                                    JsonObject rankData = ranks.getAsJsonObject(gamemode);
-                                    if (rankData.has("rank")) {
-                                        String rank = rankData.get("rank").getAsString();
-                                        int tierValue = getTierValue(rank);
-                                        if (tierValue < bestTierValue) {
-                                            bestTierValue = tierValue;
-                                            tier = rank;
-                                        }
-                                    }
-                                }
+                    for (String gamemode : ranks.keySet()) {
+                        JsonObject rankData = ranks.getAsJsonObject(gamemode);
+                        if (rankData.has("rank")) {
+                            String rank = rankData.get("rank").getAsString();
+                            int tierValue = getTierValue(rank);
+                            if (tierValue < bestTierValue) {
+                                bestTierValue = tierValue;
+                                tier = rank;
                             }
-                            
-                            players.add(new PlayerSearchResult(playerName, uuid, tier));
                         }
-                    } catch (Exception parseError) {
-                        CTLTierTagger.LOGGER.error("Error parsing search result: {}", parseError.getMessage());
                     }
-                    
-                    return players;
-                } else {
-                    CTLTierTagger.LOGGER.warn("Failed to search player {}: HTTP {}", query, response.statusCode());
-                    return new ArrayList<>();
                 }
-            } catch (Exception e) {
-                CTLTierTagger.LOGGER.error("Error searching players: {}", e.getMessage());
-                return new ArrayList<>();
+                
+                players.add(new PlayerSearchResult(playerName, uuid, tier));
             }
-        });
+        } catch (Exception parseError) {
+            CTLTierTagger.LOGGER.error("Error parsing search result: {}", parseError.getMessage());
+        }
+        
+        return players;
+    }
+
+    /**
+     * Number of API requests waiting for a free slot
+     */
+    public static int getQueueDepth() {
+        return HttpManager.getStats(HttpManager.API_HOST).queued();
+    }
+
+    /**
+     * Number of API requests currently on the network
+     */
+    public static int getInFlightRequests() {
+        return HttpManager.getStats(HttpManager.API_HOST).inFlight();
     }
 
     /**
@@ -166,12 +187,15 @@ public class TierListAPI {
         if (tier == null || tier.equals("Unranked")) return 999;
         
         // Extract tier number and type (HT/LT)
-        if (tier.startsWith("HT")) {
-            int num = Integer.parseInt(tier.substring(2));
-            return (num * 2) - 1; // HT1=1, HT2=3, HT3=5, etc.
-        } else if (tier.startsWith("LT")) {
-            int num = Integer.parseInt(tier.substring(2));
-            return num * 2; // LT1=2, LT2=4, LT3=6, etc.
+        try {
+            if (tier.startsWith("HT")) {
+                int num = Integer.parseInt(tier.substring(2));
+                return (num * 2) - 1; // HT1=1, HT2=3, HT3=5, etc.
+            } else if (tier.startsWith("LT")) {
+                int num = Integer.parseInt(tier.substring(2));
+                return num * 2; // LT1=2, LT2=4, LT3=6, etc.
+            }
+        } catch (NumberFormatException ignored) {
         }
         return 999;
     }
@@ -188,7 +212,14 @@ public class TierListAPI {
         public final String title;
         public final int overallRank;
         public final long fetchTime;
-        private final Map<String, TierInfo> gamemodeTiers;
+        // Tiers of the fixed gamemodes, 5 bits per GamemodeUtil ordinal (see TierUtil)
+        private long packedTiers;
+        // Gamemodes or tier names outside the packed encoding; null unless the API sends one
+        private Map<String, TierInfo> extraTiers;
+        // Best tier across all gamemodes, recomputed whenever a tier is set
+        private String highestTier = "Unranked";
+        private String highestTierGamemode;
+        private boolean highestTierRetired;
 
         public PlayerTierData(String playerName, String region, String uuid, String avatarUrl, 
                             int totalPoints, String title, int overallRank) {
@@ -200,62 +231,135 @@ public class TierListAPI {
             this.title = title;
             this.overallRank = overallRank;
             this.fetchTime = System.currentTimeMillis();
-            this.gamemodeTiers = new ConcurrentHashMap<>();
         }
 
+        /**
+         * Only called while the object is being built, before it is published to other threads
+         */
         public void setTierForGamemode(String gamemode, String tier, boolean retired) {
-            gamemodeTiers.put(gamemode, new TierInfo(tier, retired));
+            int ordinal = GamemodeUtil.ordinal(gamemode);
+            int code = TierUtil.code(tier);
+            if (ordinal >= 0 && code != TierUtil.UNRANKED) {
+                packedTiers = TierUtil.pack(packedTiers, ordinal, code, retired);
+                if (extraTiers != null) extraTiers.remove(gamemode);
+            } else {
+                if (ordinal >= 0) {
+                    packedTiers = TierUtil.pack(packedTiers, ordinal, TierUtil.UNRANKED, false);
+                }
+                if (extraTiers == null) extraTiers = new ConcurrentHashMap<>();
+                extraTiers.put(gamemode, new TierInfo(tier, retired));
+            }
+            updateHighestTier();
+        }
+
+        private void updateHighestTier() {
+            String bestTier = "Unranked";
+            String bestGamemode = null;
+            boolean bestRetired = false;
+            int bestValue = 999;
+
+            // Tier codes already order like getTierValue (HT1=1, LT1=2, ...)
+            for (int ordinal = 0; ordinal < GamemodeUtil.GAMEMODES.length; ordinal++) {
+                int code = TierUtil.codeAt(packedTiers, ordinal);
+                if (code != TierUtil.UNRANKED && code < bestValue) {
+                    bestValue = code;
+                    bestTier = TierUtil.name(code);
+                    bestGamemode = GamemodeUtil.GAMEMODES[ordinal];
+                    bestRetired = TierUtil.retiredAt(packedTiers, ordinal);
+                }
+            }
+            if (extraTiers != null) {
+                for (Map.Entry<String, TierInfo> entry : extraTiers.entrySet()) {
+                    int tierValue = TierListAPI.getTierValue(entry.getValue().tier);
+                    if (tierValue < bestValue) {
+                        bestValue = tierValue;
+                        bestTier = entry.getValue().tier;
+                        bestGamemode = entry.getKey();
+                        bestRetired = entry.getValue().retired;
+                    }
+                }
+            }
+
+            highestTier = bestTier;
+            highestTierGamemode = bestGamemode;
+            highestTierRetired = bestRetired;
         }
 
         public String getTierForGamemode(String gamemode) {
-            TierInfo info = gamemodeTiers.get(gamemode);
+            int ordinal = GamemodeUtil.ordinal(gamemode);
+            if (ordinal >= 0) {
+                int code = TierUtil.codeAt(packedTiers, ordinal);
+                if (code != TierUtil.UNRANKED) return TierUtil.name(code);
+            }
+            TierInfo info = extraTiers != null ? extraTiers.get(gamemode) : null;
             return info != null ? info.tier : "Unranked";
         }
 
         public boolean isRetired(String gamemode) {
-            TierInfo info = gamemodeTiers.get(gamemode);
+            int ordinal = GamemodeUtil.ordinal(gamemode);
+            if (ordinal >= 0 && TierUtil.codeAt(packedTiers, ordinal) != TierUtil.UNRANKED) {
+                return TierUtil.retiredAt(packedTiers, ordinal);
+            }
+            TierInfo info = extraTiers != null ? extraTiers.get(gamemode) : null;
             return info != null && info.retired;
         }
 
         public boolean hasTierForGamemode(String gamemode) {
-            TierInfo info = gamemodeTiers.get(gamemode);
+            int ordinal = GamemodeUtil.ordinal(gamemode);
+            if (ordinal >= 0 && TierUtil.codeAt(packedTiers, ordinal) != TierUtil.UNRANKED) {
+                return true;
+            }
+            TierInfo info = extraTiers != null ? extraTiers.get(gamemode) : null;
             return info != null && !info.tier.equals("Unranked");
         }
-        
-        public Map<String, TierInfo> getAllTiers() {
-            return gamemodeTiers;
+
+        /**
+         * Whether the player holds any tier, without building the map getAllTiers() returns
+         */
+        public boolean hasTiers() {
+            // Unranked slots pack to 0, so any set bit is a tier
+            return packedTiers != 0 || (extraTiers != null && !extraTiers.isEmpty());
         }
 
-        public String getHighestTier() {
-            String highestTier = "Unranked";
-            int highestTierValue = 999;
-            
-            for (Map.Entry<String, TierInfo> entry : gamemodeTiers.entrySet()) {
-                String tier = entry.getValue().tier;
-                int tierValue = TierListAPI.getTierValue(tier);
-                if (tierValue < highestTierValue) {
-                    highestTierValue = tierValue;
-                    highestTier = tier;
+        /**
+         * Tiers of the fixed gamemodes in TierUtil's packed form
+         */
+        public long getPackedTiers() {
+            return packedTiers;
+        }
+
+        /**
+         * Tiers that do not fit the packed form, usually empty
+         */
+        public Map<String, TierInfo> getExtraTiers() {
+            return extraTiers != null ? Collections.unmodifiableMap(extraTiers) : Collections.emptyMap();
+        }
+
+        /**
+         * Read-only view of every tier, built from the packed form on each call
+         */
+        public Map<String, TierInfo> getAllTiers() {
+            Map<String, TierInfo> tiers = new LinkedHashMap<>();
+            for (int ordinal = 0; ordinal < GamemodeUtil.GAMEMODES.length; ordinal++) {
+                int code = TierUtil.codeAt(packedTiers, ordinal);
+                if (code != TierUtil.UNRANKED) {
+                    tiers.put(GamemodeUtil.GAMEMODES[ordinal], TierInfo.of(code, TierUtil.retiredAt(packedTiers, ordinal)));
                 }
             }
-            
+            if (extraTiers != null) tiers.putAll(extraTiers);
+            return Collections.unmodifiableMap(tiers);
+        }
+
+        public String getHighestTier() {
             return highestTier;
         }
 
         public String getHighestTierGamemode() {
-            String highestGamemode = null;
-            int highestTierValue = 999;
-            
-            for (Map.Entry<String, TierInfo> entry : gamemodeTiers.entrySet()) {
-                String tier = entry.getValue().tier;
-                int tierValue = TierListAPI.getTierValue(tier);
-                if (tierValue < highestTierValue) {
-                    highestTierValue = tierValue;
-                    highestGamemode = entry.getKey();
-                }
-            }
-            
-            return highestGamemode;
+            return highestTierGamemode;
+        }
+
+        public boolean isHighestTierRetired() {
+            return highestTierRetired;
         }
 
         public boolean isExpired(long cacheTimeMs) {
@@ -265,7 +369,7 @@ public class TierListAPI {
         @Override
         public String toString() {
             return String.format("Player: %s, Region: %s, Points: %d, Rank: #%d, Tiers: %s", 
-                playerName, region, totalPoints, overallRank, gamemodeTiers);
+                playerName, region, totalPoints, overallRank, getAllTiers());
         }
     }
     
@@ -273,9 +377,22 @@ public class TierListAPI {
      * Inner class to hold tier info with retired status
      */
     public static class TierInfo {
+        // Shared instances for the packed tiers, indexed by [tier code][retired]
+        private static final TierInfo[][] PACKED = new TierInfo[TierUtil.TIER_COUNT + 1][2];
+        static {
+            for (int code = 1; code <= TierUtil.TIER_COUNT; code++) {
+                PACKED[code][0] = new TierInfo(TierUtil.name(code), false);
+                PACKED[code][1] = new TierInfo(TierUtil.name(code), true);
+            }
+        }
+
         public final String tier;
         public final boolean retired;
         
+        static TierInfo of(int code, boolean retired) {
+            return PACKED[code][retired ? 1 : 0];
+        }
+        
         public TierInfo(String tier, boolean retired) {
             this.tier = tier;
             this.retired = retired;
@@ -0,0 +1,186 @@
+package com.ctltierlist.tiertagger.cache;
+
+import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.util.FileUtil;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary copy of the overall leaderboard, loaded on startup instead of re-parsing cache.json.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * int    magic "CTLS"
+ * short  format version
+ * long   creation time (ms)
+ * UTF    ETag of the API response ("" if none)
+ * UTF    Last-Modified of the API response ("" if none)
+ * int    string count, then UTF strings   (names, uuids, regions, titles)
+ * byte   gamemode count, then UTF strings
+ * byte   tier count, then UTF strings
+ * int    player count, then fixed-width records:
+ *          int name, int uuid, int region, int title, int totalPoints, int rank,
+ *          byte per gamemode: 0 = unranked, otherwise (tier index + 1) | 0x80 if retired
+ * long   CRC32 of everything above
+ * </pre>
+ */
+final class LeaderboardSnapshot {
+    private static final int MAGIC = 0x43544C53; // "CTLS"
+    private static final short FORMAT_VERSION = 2;
+    private static final int RETIRED_BIT = 0x80;
+    private static final int MAX_TIERS = 0x7F;
+
+    private LeaderboardSnapshot() {}
+
+    /**
+     * Players read from a snapshot together with the HTTP validators of the response they came from
+     */
+    record Contents(Map<String, TierListAPI.PlayerTierData> players, String etag, String lastModified) {}
+
+    static void write(Path file, Collection<TierListAPI.PlayerTierData> players, String etag, String lastModified) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<String, Integer> gamemodes = new LinkedHashMap<>();
+        Map<String, Integer> tiers = new LinkedHashMap<>();
+
+        // First pass: intern every string so records can be written with fixed width
+        for (TierListAPI.PlayerTierData player : players) {
+            intern(strings, player.playerName);
+            intern(strings, player.uuid);
+            intern(strings, player.region);
+            intern(strings, player.title);
+            for (Map.Entry<String, TierListAPI.TierInfo> entry : player.getAllTiers().entrySet()) {
+                intern(gamemodes, entry.getKey());
+                intern(tiers, entry.getValue().tier);
+            }
+        }
+        if (gamemodes.size() > 0xFF || tiers.size() > MAX_TIERS) {
+            throw new IOException("Too many distinct gamemodes or tiers for snapshot format");
+        }
+
+        Path tempFile = FileUtil.tempFileFor(file);
+        Files.createDirectories(file.getParent());
+
+        CRC32 crc = new CRC32();
+        try (OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(fileOut, crc));
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeUTF(etag != null ? etag : "");
+            out.writeUTF(lastModified != null ? lastModified : "");
+
+            writeTable(out, strings.keySet(), true);
+            writeTable(out, gamemodes.keySet(), false);
+            writeTable(out, tiers.keySet(), false);
+
+            String[] gamemodeOrder = gamemodes.keySet().toArray(new String[0]);
+            out.writeInt(players.size());
+            for (TierListAPI.PlayerTierData player : players) {
+                out.writeInt(strings.get(player.playerName));
+                out.writeInt(strings.get(player.uuid));
+                out.writeInt(strings.get(player.region));
+                out.writeInt(strings.get(player.title));
+                out.writeInt(player.totalPoints);
+                out.writeInt(player.overallRank);
+
+                Map<String, TierListAPI.TierInfo> playerTiers = player.getAllTiers();
+                for (String gamemode : gamemodeOrder) {
+                    TierListAPI.TierInfo info = playerTiers.get(gamemode);
+                    int code = 0;
+                    if (info != null) {
+                        code = tiers.get(info.tier) + 1;
+                        if (info.retired) code |= RETIRED_BIT;
+                    }
+                    out.writeByte(code);
+                }
+            }
+            out.flush();
+
+            new DataOutputStream(fileOut).writeLong(crc.getValue());
+        }
+
+        FileUtil.replace(tempFile, file);
+    }
+
+    static Contents read(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(fileIn, crc));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a leaderboard snapshot");
+            }
+            short version = in.readShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            in.readLong(); // creation time, informational only
+            String etag = in.readUTF();
+            String lastModified = in.readUTF();
+
+            String[] strings = readTable(in, true);
+            String[] gamemodes = readTable(in, false);
+            String[] tiers = readTable(in, false);
+
+            int playerCount = in.readInt();
+            Map<String, TierListAPI.PlayerTierData> players = new ConcurrentHashMap<>(Math.max(16, playerCount * 4 / 3 + 1));
+            for (int i = 0; i < playerCount; i++) {
+                String name = strings[in.readInt()];
+                String uuid = strings[in.readInt()];
+                String region = strings[in.readInt()];
+                String title = strings[in.readInt()];
+                int totalPoints = in.readInt();
+                int rank = in.readInt();
+
+                TierListAPI.PlayerTierData tierData = new TierListAPI.PlayerTierData(
+                    name, region, uuid, "", totalPoints, title, rank
+                );
+                for (String gamemode : gamemodes) {
+                    int code = in.readUnsignedByte();
+                    if (code != 0) {
+                        tierData.setTierForGamemode(gamemode, tiers[(code & MAX_TIERS) - 1], (code & RETIRED_BIT) != 0);
+                    }
+                }
+                players.put(name.toLowerCase(), tierData);
+            }
+
+            long expected = crc.getValue();
+            if (new DataInputStream(fileIn).readLong() != expected) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            return new Contents(players, etag.isEmpty() ? null : etag, lastModified.isEmpty() ? null : lastModified);
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    private static void intern(Map<String, Integer> table, String value) {
+        table.putIfAbsent(value, table.size());
+    }
+
+    private static void writeTable(DataOutputStream out, Collection<String> values, boolean wide) throws IOException {
+        if (wide) out.writeInt(values.size());
+        else out.writeByte(values.size());
+        for (String value : values) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String[] readTable(DataInputStream in, boolean wide) throws IOException {
+        int size = wide ? in.readInt() : in.readUnsignedByte();
+        if (size < 0 || size > in.available()) {
+            throw new IOException("Corrupt snapshot table size " + size);
+        }
+        String[] values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = in.readUTF();
+        }
+        return values;
+    }
+}
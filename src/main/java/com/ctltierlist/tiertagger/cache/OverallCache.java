@@ -1,26 +1,35 @@
 package com.ctltierlist.tiertagger.cache;
 
 import com.ctltierlist.tiertagger.CTLTierTagger;
+import com.ctltierlist.tiertagger.api.HttpManager;
 import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.util.FileUtil;
 import com.ctltierlist.tiertagger.util.GamemodeUtil;
-import com.google.gson.*;
+import com.ctltierlist.tiertagger.util.TierUtil;
+import com.ctltierlist.tiertagger.config.ModConfig;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import java.io.*;
-import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.time.Duration;
-import java.util.Map;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 public class OverallCache {
+    /**
+     * Where the currently published player map came from
+     */
+    public enum State { EMPTY, DISK, LIVE }
+
     private static final String API_URL = "https://api.centraltierlist.com/rankings/overall";
-    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(30))
-            .build();
 
     private static final long REFRESH_INTERVAL_MS = 60 * 60 * 1000; // 1 hour
     private static final long STALE_THRESHOLD_MS = 24 * 60 * 60 * 1000; // 24 hours
@@ -28,15 +37,25 @@ public class OverallCache {
     private static final long[] RETRY_DELAYS_MS = {5_000, 15_000, 30_000};
 
     private static volatile Map<String, TierListAPI.PlayerTierData> playerCache = new ConcurrentHashMap<>();
+    // Read-only lookup tables over playerCache, rebuilt on every publish; the render path reads only this
+    private static volatile PlayerIndex index = PlayerIndex.EMPTY;
+    // Bumped with every new index; only written under the class lock (publish/applyDelta)
+    private static volatile long generation = 0;
     private static Path cacheFilePath;
+    private static Path snapshotFilePath;
     private static ScheduledExecutorService scheduler;
+    private static final Object REFRESH_LOCK = new Object();
     private static volatile boolean initialized = false;
     private static volatile long lastRefreshTime = 0;
+    private static volatile State state = State.EMPTY;
+    private static volatile RefreshStats lastRefreshStats;
+    // HTTP validators of the response behind the current data, sent back on the next refresh
+    private static volatile String etag;
+    private static volatile String lastModified;
 
     public static void init(Path configDir) {
         cacheFilePath = configDir.resolve("ctl-tiertagger").resolve("cache.json");
-
-        loadFromDisk();
+        snapshotFilePath = configDir.resolve("ctl-tiertagger").resolve("cache.bin");
 
         scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "CTL-TierTagger-CacheRefresh");
@@ -44,6 +63,9 @@ public class OverallCache {
             return t;
         });
 
+        // Disk load runs on the cache thread ahead of the first refresh, so it never delays startup
+        // and can never overwrite live data
+        scheduler.execute(OverallCache::loadFromDisk);
         scheduler.execute(OverallCache::refreshWithRetry);
 
         scheduler.scheduleAtFixedRate(
@@ -54,23 +76,40 @@ public class OverallCache {
         );
 
         initialized = true;
-        CTLTierTagger.LOGGER.info("OverallCache initialized with {} players from disk cache, API refresh started", playerCache.size());
+        CTLTierTagger.LOGGER.info("OverallCache initialized, disk cache load and API refresh started");
     }
 
+    /**
+     * Look up a player by name, ignoring case. Does not allocate.
+     */
     public static TierListAPI.PlayerTierData getPlayer(String playerName) {
         if (playerName == null || playerName.isEmpty()) return null;
-        return playerCache.get(playerName.toLowerCase());
+        return index.byName(playerName);
+    }
+
+    /**
+     * Look up a player by UUID; finds renamed players, but only those the leaderboard lists with a UUID
+     */
+    public static TierListAPI.PlayerTierData getPlayer(UUID uuid) {
+        if (uuid == null) return null;
+        return index.byUuid(uuid);
     }
 
     public static boolean hasPlayer(String playerName) {
-        if (playerName == null || playerName.isEmpty()) return false;
-        return playerCache.containsKey(playerName.toLowerCase());
+        return getPlayer(playerName) != null;
     }
 
     public static int getCacheSize() {
         return playerCache.size();
     }
 
+    /**
+     * Changes whenever the published player data changes, so render caches can tell when to re-resolve
+     */
+    public static long getGeneration() {
+        return generation;
+    }
+
     public static boolean isInitialized() {
         return initialized;
     }
@@ -79,6 +118,105 @@ public class OverallCache {
         return lastRefreshTime;
     }
 
+    /**
+     * Change counts of the last successful API refresh, or null before the first one
+     */
+    public static RefreshStats getLastRefreshStats() {
+        return lastRefreshStats;
+    }
+
+    /**
+     * Where the current player data came from; EMPTY until the disk cache or the first refresh lands
+     */
+    public static State getState() {
+        return state;
+    }
+
+    private static synchronized boolean publish(Map<String, TierListAPI.PlayerTierData> players, State source,
+                                                String newEtag, String newLastModified) {
+        if (source == State.DISK && state == State.LIVE) {
+            return false; // the API already answered, the disk copy can only be older
+        }
+        playerCache = players; // atomic swap
+        index = new PlayerIndex(players);
+        generation++;
+        etag = newEtag;
+        lastModified = newLastModified;
+        state = source;
+        return true;
+    }
+
+    /**
+     * Apply a parsed refresh to the live map in place: unchanged players keep their existing
+     * PlayerTierData instance, only new and changed players are replaced and missing ones removed.
+     */
+    private static synchronized RefreshStats applyDelta(Delta delta, String newEtag, String newLastModified) {
+        Map<String, TierListAPI.PlayerTierData> target = playerCache;
+        boolean replaced = target != delta.base;
+        if (replaced) {
+            // The map was replaced while we parsed (e.g. by the disk load), carry the unchanged entries over
+            for (String key : delta.seen) {
+                if (!delta.upserts.containsKey(key)) {
+                    target.put(key, delta.base.get(key));
+                }
+            }
+        }
+
+        target.putAll(delta.upserts);
+
+        int removed = 0;
+        for (Iterator<String> it = target.keySet().iterator(); it.hasNext(); ) {
+            if (!delta.seen.contains(it.next())) {
+                it.remove();
+                removed++;
+            }
+        }
+
+        // An unchanged leaderboard keeps its index: rebuilding it is most of the garbage a refresh makes,
+        // and a new generation would make every render memo re-resolve for nothing
+        if (replaced || delta.added > 0 || delta.changed > 0 || removed > 0) {
+            index = new PlayerIndex(target);
+            generation++;
+        }
+        etag = newEtag;
+        lastModified = newLastModified;
+        state = State.LIVE;
+
+        RefreshStats stats = new RefreshStats(delta.added, removed, delta.changed, delta.unchanged);
+        lastRefreshStats = stats;
+        return stats;
+    }
+
+    /**
+     * The API confirmed the data we hold is current: keep the map, just promote it to live
+     */
+    private static synchronized void markNotModified() {
+        state = State.LIVE;
+        try {
+            if (Files.exists(snapshotFilePath)) {
+                Files.setLastModifiedTime(snapshotFilePath, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+        } catch (Exception e) {
+            CTLTierTagger.LOGGER.warn("Failed to touch cache snapshot: {}", e.getMessage());
+        }
+    }
+
+    private static InputStream decodeBody(HttpResponse<InputStream> response) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase();
+        InputStream raw = response.body();
+        try {
+            return switch (encoding) {
+                case "gzip", "x-gzip" -> new GZIPInputStream(raw, 8192);
+                case "deflate" -> new InflaterInputStream(raw);
+                default -> raw;
+            };
+        } catch (IOException | RuntimeException e) {
+            // GZIPInputStream reads the header up front; don't leak the connection if that fails
+            raw.close();
+            throw e;
+        }
+    }
+
     private static void refreshWithRetry() {
         for (int attempt = 0; attempt <= MAX_RETRIES; attempt++) {
             if (refreshFromAPIInternal()) return;
@@ -96,34 +234,70 @@ public class OverallCache {
     }
 
     private static boolean refreshFromAPIInternal() {
+        // One refresh at a time: they share cache.json.tmp and each applies a delta against playerCache
+        synchronized (REFRESH_LOCK) {
+            return refreshLocked();
+        }
+    }
+
+    private static boolean refreshLocked() {
         long startTime = System.currentTimeMillis();
         try {
             CTLTierTagger.LOGGER.info("Refreshing overall cache from API...");
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(API_URL))
-                    .timeout(Duration.ofSeconds(60))
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpRequest.Builder requestBuilder = HttpManager.get(API_URL, HttpManager.Timeout.LEADERBOARD)
+                    .header("Accept-Encoding", "gzip, deflate");
+            // Only revalidate when we actually hold the data the validators describe
+            if (!playerCache.isEmpty()) {
+                if (etag != null) requestBuilder.header("If-None-Match", etag);
+                if (lastModified != null) requestBuilder.header("If-Modified-Since", lastModified);
+            }
 
-            if (response.statusCode() == 200) {
-                String json = response.body();
-                Map<String, TierListAPI.PlayerTierData> newCache = parseLeaderboard(json);
-                if (newCache != null && !newCache.isEmpty()) {
-                    playerCache = newCache; // atomic swap
-                    saveToDisk(json);
+            HttpResponse<InputStream> response = HttpManager.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+            if (response.statusCode() == 304) {
+                response.body().close();
+                markNotModified();
+                lastRefreshStats = new RefreshStats(0, 0, 0, playerCache.size());
+                lastRefreshTime = System.currentTimeMillis();
+                CTLTierTagger.LOGGER.info("Overall cache unchanged (HTTP 304), checked in {}ms", lastRefreshTime - startTime);
+                logHttpStats();
+                return true;
+            } else if (response.statusCode() == 200) {
+                // Parse straight off the wire while copying the raw bytes to disk,
+                // so the body is never held in memory as a String or a JsonObject tree
+                Path tempFile = FileUtil.tempFileFor(cacheFilePath);
+                Map<String, TierListAPI.PlayerTierData> base = playerCache;
+                Delta delta = new Delta(base);
+                boolean parsed;
+                // The body is owned from here on, so it is closed even if the temp file fails to open
+                try (InputStream body = decodeBody(response)) {
+                    Files.createDirectories(cacheFilePath.getParent());
+                    try (OutputStream copy = Files.newOutputStream(tempFile);
+                         Reader reader = new InputStreamReader(new TeeInputStream(body, copy), StandardCharsets.UTF_8)) {
+                        parsed = parseLeaderboard(reader, delta);
+                    }
+                }
+                if (parsed && !delta.seen.isEmpty()) {
+                    String newEtag = response.headers().firstValue("ETag").orElse(null);
+                    String newLastModified = response.headers().firstValue("Last-Modified").orElse(null);
+                    RefreshStats stats = applyDelta(delta, newEtag, newLastModified);
+                    saveToDisk(tempFile, playerCache, newEtag, newLastModified);
                     lastRefreshTime = System.currentTimeMillis();
                     long elapsed = lastRefreshTime - startTime;
-                    CTLTierTagger.LOGGER.info("Overall cache refreshed: {} players loaded in {}ms", newCache.size(), elapsed);
+                    CTLTierTagger.LOGGER.info("Overall cache refreshed: {} players loaded in {}ms ({} added, {} removed, {} changed, {} unchanged)",
+                        playerCache.size(), elapsed, stats.added(), stats.removed(), stats.changed(), stats.unchanged());
+                    logHttpStats();
                     return true;
                 }
+                Files.deleteIfExists(tempFile);
                 CTLTierTagger.LOGGER.warn("API returned 200 but parsed 0 players");
             } else {
-                String body = response.body();
-                String truncated = body.length() > 200 ? body.substring(0, 200) + "..." : body;
-                CTLTierTagger.LOGGER.warn("Failed to fetch overall rankings: HTTP {} - {}", response.statusCode(), truncated);
+                String body;
+                try (InputStream in = decodeBody(response)) {
+                    body = new String(in.readNBytes(200), StandardCharsets.UTF_8);
+                }
+                CTLTierTagger.LOGGER.warn("Failed to fetch overall rankings: HTTP {} - {}", response.statusCode(), body);
             }
         } catch (Exception e) {
             CTLTierTagger.LOGGER.error("Error refreshing overall cache: {}", e.getMessage());
@@ -131,77 +305,337 @@ public class OverallCache {
         return false;
     }
 
-    private static Map<String, TierListAPI.PlayerTierData> parseLeaderboard(String json) {
-        try {
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            JsonArray leaderboard = root.getAsJsonArray("leaderboard");
-            if (leaderboard == null) return null;
-
-            Map<String, TierListAPI.PlayerTierData> newCache = new ConcurrentHashMap<>();
-
-            for (JsonElement element : leaderboard) {
-                JsonObject player = element.getAsJsonObject();
-
-                String ingameName = player.get("ingameName").getAsString();
-                String region = player.has("region") && !player.get("region").isJsonNull() ? player.get("region").getAsString() : "Unknown";
-                int totalPoints = player.has("totalPoints") ? player.get("totalPoints").getAsInt() : 0;
-                String title = player.has("title") ? player.get("title").getAsString() : "Rookie";
-                int rank = player.has("rank") ? player.get("rank").getAsInt() : 0;
-
-                TierListAPI.PlayerTierData tierData = new TierListAPI.PlayerTierData(
-                    ingameName, region, "", "", totalPoints, title, rank
-                );
-
-                if (player.has("ranks") && player.get("ranks").isJsonObject()) {
-                    JsonObject ranks = player.getAsJsonObject("ranks");
-                    for (String gamemode : ranks.keySet()) {
-                        JsonObject rankData = ranks.getAsJsonObject(gamemode);
-                        if (rankData.has("rank")) {
-                            String tierRank = rankData.get("rank").getAsString();
-                            boolean retired = rankData.has("retired") && rankData.get("retired").getAsBoolean();
-                            tierData.setTierForGamemode(GamemodeUtil.normalize(gamemode), tierRank, retired);
+    /**
+     * In debug mode, log request counts and latency for every host the mod has talked to, once per refresh
+     */
+    private static void logHttpStats() {
+        if (!ModConfig.isDebugMode()) return;
+        for (HttpManager.HostStats stats : HttpManager.getAllStats().values()) {
+            CTLTierTagger.LOGGER.info("HTTP {}: {} requests, {} failed, {}ms avg, {}ms max, {} in flight, {} queued",
+                stats.host(), stats.requests(), stats.failures(), stats.averageLatencyMs(), stats.maxLatencyMs(),
+                stats.inFlight(), stats.queued());
+        }
+    }
+
+    /**
+     * Stream the leaderboard with a JsonReader, handing each entry to the sink as it is read.
+     * The entry object is reused between calls; no intermediate JSON tree is built.
+     * @return false if the JSON could not be parsed or had no leaderboard array
+     */
+    private static boolean parseLeaderboard(Reader in, Consumer<LeaderboardEntry> sink) {
+        try (JsonReader reader = new JsonReader(in)) {
+            boolean found = false;
+            LeaderboardEntry entry = new LeaderboardEntry();
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("leaderboard") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    found = true;
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        if (readPlayer(reader, entry)) {
+                            sink.accept(entry);
                         }
                     }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
                 }
-
-                newCache.put(ingameName.toLowerCase(), tierData);
             }
+            reader.endObject();
 
-            return newCache;
+            return found;
         } catch (Exception e) {
             CTLTierTagger.LOGGER.error("Error parsing leaderboard JSON: {}", e.getMessage());
-            return null;
+            return false;
         }
     }
 
-    private static void saveToDisk(String json) {
+    private static boolean readPlayer(JsonReader reader, LeaderboardEntry entry) throws IOException {
+        entry.reset();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+                continue;
+            }
+            switch (field) {
+                case "ingameName" -> entry.ingameName = reader.nextString();
+                case "uuid" -> entry.uuid = reader.nextString();
+                case "region" -> entry.region = reader.nextString();
+                case "totalPoints" -> entry.totalPoints = reader.nextInt();
+                case "title" -> entry.title = reader.nextString();
+                case "rank" -> entry.rank = reader.nextInt();
+                case "ranks" -> readRanks(reader, entry);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return entry.ingameName != null;
+    }
+
+    private static void readRanks(JsonReader reader, LeaderboardEntry entry) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String gamemode = reader.nextName();
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+            String tierRank = null;
+            boolean retired = false;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String field = reader.nextName();
+                if (field.equals("rank") && reader.peek() != JsonToken.NULL) {
+                    tierRank = reader.nextString();
+                } else if (field.equals("retired") && reader.peek() == JsonToken.BOOLEAN) {
+                    retired = reader.nextBoolean();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (tierRank != null) {
+                entry.addTier(GamemodeUtil.normalize(gamemode), tierRank, retired);
+            }
+        }
+        reader.endObject();
+    }
+
+    private static void saveToDisk(Path tempFile, Map<String, TierListAPI.PlayerTierData> players,
+                                   String newEtag, String newLastModified) {
         try {
-            Files.createDirectories(cacheFilePath.getParent());
-            Files.writeString(cacheFilePath, json);
+            FileUtil.replace(tempFile, cacheFilePath);
         } catch (Exception e) {
             CTLTierTagger.LOGGER.error("Failed to save cache to disk: {}", e.getMessage());
         }
+        try {
+            LeaderboardSnapshot.write(snapshotFilePath, new ArrayList<>(players.values()), newEtag, newLastModified);
+        } catch (Exception e) {
+            CTLTierTagger.LOGGER.error("Failed to save cache snapshot to disk: {}", e.getMessage());
+        }
     }
 
     private static void loadFromDisk() {
+        long startTime = System.currentTimeMillis();
         try {
-            if (Files.exists(cacheFilePath)) {
-                long fileAge = System.currentTimeMillis() - Files.getLastModifiedTime(cacheFilePath).toMillis();
-                String json = Files.readString(cacheFilePath);
-                Map<String, TierListAPI.PlayerTierData> loaded = parseLeaderboard(json);
-                if (loaded != null && !loaded.isEmpty()) {
-                    playerCache = loaded;
-                    if (fileAge > STALE_THRESHOLD_MS) {
-                        CTLTierTagger.LOGGER.warn("Disk cache is {}h old, will refresh from API", fileAge / (60 * 60 * 1000));
+            Path source = snapshotFilePath;
+            LeaderboardSnapshot.Contents snapshot = loadSnapshot();
+            Map<String, TierListAPI.PlayerTierData> loaded = snapshot != null ? snapshot.players() : null;
+            if (loaded == null && Files.exists(cacheFilePath)) {
+                // Fall back to the raw JSON, e.g. on first start after an update
+                source = cacheFilePath;
+                Map<String, TierListAPI.PlayerTierData> parsed = new ConcurrentHashMap<>();
+                try (Reader reader = Files.newBufferedReader(cacheFilePath, StandardCharsets.UTF_8)) {
+                    if (parseLeaderboard(reader, entry -> parsed.putIfAbsent(entry.key(), entry.toPlayerTierData()))) {
+                        loaded = parsed;
                     }
-                    CTLTierTagger.LOGGER.info("Loaded {} players from disk cache", loaded.size());
                 }
             }
+            if (loaded != null && !loaded.isEmpty()) {
+                // The raw JSON carries no validators, so only a snapshot enables conditional refreshes
+                String diskEtag = snapshot != null ? snapshot.etag() : null;
+                String diskLastModified = snapshot != null ? snapshot.lastModified() : null;
+                if (!publish(loaded, State.DISK, diskEtag, diskLastModified)) return;
+                long fileAge = System.currentTimeMillis() - Files.getLastModifiedTime(source).toMillis();
+                if (fileAge > STALE_THRESHOLD_MS) {
+                    CTLTierTagger.LOGGER.warn("Disk cache is {}h old, will refresh from API", fileAge / (60 * 60 * 1000));
+                }
+                CTLTierTagger.LOGGER.info("Loaded {} players from disk cache ({}) in {}ms",
+                    loaded.size(), source.getFileName(), System.currentTimeMillis() - startTime);
+            }
         } catch (Exception e) {
             CTLTierTagger.LOGGER.warn("Failed to load cache from disk: {}", e.getMessage());
         }
     }
 
+    private static LeaderboardSnapshot.Contents loadSnapshot() {
+        if (!Files.exists(snapshotFilePath)) return null;
+        try {
+            return LeaderboardSnapshot.read(snapshotFilePath);
+        } catch (Exception e) {
+            CTLTierTagger.LOGGER.warn("Ignoring unreadable cache snapshot: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public record RefreshStats(int added, int removed, int changed, int unchanged) {}
+
+    /**
+     * Mutable, reused holder for one leaderboard entry while it is being parsed
+     */
+    private static final class LeaderboardEntry {
+        String ingameName;
+        String uuid;
+        String region;
+        int totalPoints;
+        String title;
+        int rank;
+        int tierCount;
+        String[] gamemodes = new String[16];
+        String[] tiers = new String[16];
+        boolean[] retired = new boolean[16];
+
+        void reset() {
+            ingameName = null;
+            uuid = "";
+            region = "Unknown";
+            totalPoints = 0;
+            title = "Rookie";
+            rank = 0;
+            tierCount = 0;
+        }
+
+        void addTier(String gamemode, String tier, boolean isRetired) {
+            if (tierCount == gamemodes.length) {
+                gamemodes = Arrays.copyOf(gamemodes, tierCount * 2);
+                tiers = Arrays.copyOf(tiers, tierCount * 2);
+                retired = Arrays.copyOf(retired, tierCount * 2);
+            }
+            gamemodes[tierCount] = gamemode;
+            tiers[tierCount] = tier;
+            retired[tierCount] = isRetired;
+            tierCount++;
+        }
+
+        String key() {
+            return ingameName.toLowerCase();
+        }
+
+        boolean sameAs(TierListAPI.PlayerTierData data) {
+            if (!ingameName.equals(data.playerName) || !uuid.equals(data.uuid) || !region.equals(data.region) || !title.equals(data.title)
+                    || totalPoints != data.totalPoints || rank != data.overallRank) {
+                return false;
+            }
+            // Fast path: every tier fits the packed form, so one long comparison decides
+            long packed = 0;
+            boolean packable = true;
+            for (int i = 0; i < tierCount && packable; i++) {
+                int ordinal = GamemodeUtil.ordinal(gamemodes[i]);
+                int code = TierUtil.code(tiers[i]);
+                if (ordinal < 0 || code == TierUtil.UNRANKED) {
+                    packable = false;
+                } else {
+                    packed = TierUtil.pack(packed, ordinal, code, retired[i]);
+                }
+            }
+            if (packable) {
+                return packed == data.getPackedTiers() && data.getExtraTiers().isEmpty();
+            }
+
+            Map<String, TierListAPI.TierInfo> existing = data.getAllTiers();
+            if (existing.size() != tierCount) return false;
+            for (int i = 0; i < tierCount; i++) {
+                TierListAPI.TierInfo info = existing.get(gamemodes[i]);
+                if (info == null || info.retired != retired[i] || !info.tier.equals(tiers[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        TierListAPI.PlayerTierData toPlayerTierData() {
+            TierListAPI.PlayerTierData tierData = new TierListAPI.PlayerTierData(
+                ingameName, region, uuid, "", totalPoints, title, rank
+            );
+            for (int i = 0; i < tierCount; i++) {
+                tierData.setTierForGamemode(gamemodes[i], tiers[i], retired[i]);
+            }
+            return tierData;
+        }
+    }
+
+    /**
+     * Collects the difference between the parsed leaderboard and the map it will be applied to.
+     * Only new or changed players get a PlayerTierData allocated.
+     */
+    private static final class Delta implements Consumer<LeaderboardEntry> {
+        final Map<String, TierListAPI.PlayerTierData> base;
+        final Map<String, TierListAPI.PlayerTierData> upserts = new HashMap<>();
+        final Set<String> seen;
+        int added;
+        int changed;
+        int unchanged;
+
+        Delta(Map<String, TierListAPI.PlayerTierData> base) {
+            this.base = base;
+            this.seen = new HashSet<>(Math.max(16, base.size() * 4 / 3 + 1));
+        }
+
+        @Override
+        public void accept(LeaderboardEntry entry) {
+            String key = entry.key();
+            if (!seen.add(key)) return; // duplicate name, keep the first entry
+
+            TierListAPI.PlayerTierData existing = base.get(key);
+            if (existing == null) {
+                added++;
+            } else if (entry.sameAs(existing)) {
+                unchanged++;
+                return;
+            } else {
+                changed++;
+            }
+            upserts.put(key, entry.toPlayerTierData());
+        }
+    }
+
+    /**
+     * Copies everything read from the wrapped stream into a second stream
+     */
+    private static final class TeeInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        TeeInputStream(InputStream in, OutputStream copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) copy.write(b);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) copy.write(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            // Route skips through read() so the copy stays byte-for-byte identical
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            while (skipped < n) {
+                int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (read <= 0) break;
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                copy.close();
+            }
+        }
+    }
+
     public static void shutdown() {
         if (scheduler != null && !scheduler.isShutdown()) {
             scheduler.shutdown();
@@ -209,6 +643,9 @@ public class OverallCache {
     }
 
     public static void forceRefresh() {
-        CompletableFuture.runAsync(OverallCache::refreshWithRetry);
+        // Queue behind any refresh already running on the cache thread instead of racing it
+        if (scheduler != null && !scheduler.isShutdown()) {
+            scheduler.execute(OverallCache::refreshWithRetry);
+        }
     }
 }
@@ -0,0 +1,104 @@
+package com.ctltierlist.tiertagger.cache;
+
+import com.ctltierlist.tiertagger.api.TierListAPI;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable lookup tables over the leaderboard, rebuilt whenever OverallCache publishes new data.
+ *
+ * Names live in an open-addressing table hashed case-insensitively, so a lookup walks the caller's
+ * string directly instead of lowercasing a copy. Players with a UUID are also indexed by UUID,
+ * which keeps working after a rename.
+ */
+final class PlayerIndex {
+    static final PlayerIndex EMPTY = new PlayerIndex(Map.of());
+
+    // Parallel arrays: player name and its player, null where the slot is free
+    private final String[] names;
+    private final TierListAPI.PlayerTierData[] players;
+    private final int mask;
+    private final Map<UUID, TierListAPI.PlayerTierData> byUuid;
+
+    /**
+     * @param playersByKey players keyed by lowercase name, as held by OverallCache (names are unique ignoring case)
+     */
+    PlayerIndex(Map<String, TierListAPI.PlayerTierData> playersByKey) {
+        // Keep the table at most half full so probe chains stay short
+        int capacity = Integer.highestOneBit(Math.max(16, playersByKey.size() * 2 - 1)) << 1;
+        this.names = new String[capacity];
+        this.players = new TierListAPI.PlayerTierData[capacity];
+        this.mask = capacity - 1;
+        this.byUuid = new HashMap<>(Math.max(16, playersByKey.size() * 4 / 3 + 1));
+
+        // Index by the player's own name with locale-independent folding; the map keys came from
+        // String.toLowerCase(), which depends on the default locale
+        for (TierListAPI.PlayerTierData player : playersByKey.values()) {
+            int slot = hashIgnoreCase(player.playerName) & mask;
+            while (names[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            names[slot] = player.playerName;
+            players[slot] = player;
+
+            UUID uuid = parseUuid(player.uuid);
+            if (uuid != null) {
+                byUuid.putIfAbsent(uuid, player);
+            }
+        }
+    }
+
+    TierListAPI.PlayerTierData byName(CharSequence name) {
+        int slot = hashIgnoreCase(name) & mask;
+        String key;
+        while ((key = names[slot]) != null) {
+            if (equalsIgnoreCase(key, name)) {
+                return players[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    TierListAPI.PlayerTierData byUuid(UUID uuid) {
+        return byUuid.get(uuid);
+    }
+
+    private static int hashIgnoreCase(CharSequence s) {
+        int h = 0;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            h = 31 * h + Character.toLowerCase(s.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean equalsIgnoreCase(String key, CharSequence name) {
+        int n = key.length();
+        if (name.length() != n) return false;
+        for (int i = 0; i < n; i++) {
+            if (Character.toLowerCase(key.charAt(i)) != Character.toLowerCase(name.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parse a UUID in either dashed or compact (32 hex digit) form
+     * @return the UUID, or null if the string is empty or malformed
+     */
+    static UUID parseUuid(String value) {
+        if (value == null) return null;
+        try {
+            if (value.length() == 36) {
+                return UUID.fromString(value);
+            }
+            if (value.length() == 32) {
+                return new UUID(Long.parseUnsignedLong(value, 0, 16, 16), Long.parseUnsignedLong(value, 16, 32, 16));
+            }
+        } catch (IllegalArgumentException e) {
+            // Malformed, treat as missing
+        }
+        return null;
+    }
+}
@@ -0,0 +1,160 @@
+package com.ctltierlist.tiertagger.cache;
+
+import com.ctltierlist.tiertagger.CTLTierTagger;
+import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.config.ModConfig;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU of full player profiles from TierListAPI.fetchPlayerTier, keyed by lowercase name.
+ * Shared by the search screen and ProfilePrefetcher, so a player is fetched and cached once.
+ *
+ * Entries younger than ModConfig.getCacheTime() are returned as is. Older entries are still
+ * returned immediately (stale-while-revalidate) while one background fetch replaces them; a failed
+ * refresh keeps the old profile and only re-stamps it. Names that never returned a profile are
+ * remembered for NEGATIVE_TTL_MS. Concurrent fetches for the same name share a single request.
+ */
+public final class ProfileCache {
+    private static final int MAX_ENTRIES = 512;
+    // Short, because a failed request and an unknown player look the same (both return null)
+    private static final long NEGATIVE_TTL_MS = 5 * 60 * 1000;
+
+    // Access-ordered, so the eldest entry is the least recently used
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private static final Map<String, CompletableFuture<TierListAPI.PlayerTierData>> inFlight = new ConcurrentHashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder staleHits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    // Bumped whenever a cached profile changes, so render caches can tell when to re-resolve
+    private static final AtomicLong generation = new AtomicLong();
+
+    private ProfileCache() {}
+
+    public record Stats(int size, long hits, long staleHits, long misses) {
+        /**
+         * Fraction of lookups answered from the cache, fresh or stale
+         */
+        public double hitRate() {
+            long total = hits + staleHits + misses;
+            return total == 0 ? 0 : (double) (hits + staleHits) / total;
+        }
+    }
+
+    /**
+     * A cached lookup; a null profile records that the last fetch returned nothing
+     */
+    record Entry(TierListAPI.PlayerTierData profile, long fetchedAt) {
+        boolean isExpired() {
+            long ttl = profile != null ? ModConfig.getCacheTime() : NEGATIVE_TTL_MS;
+            return System.currentTimeMillis() - fetchedAt > ttl;
+        }
+    }
+
+    /**
+     * Get a player's profile, from the cache when possible
+     * @return CompletableFuture with PlayerTierData, or null if the player could not be fetched
+     */
+    public static CompletableFuture<TierListAPI.PlayerTierData> get(String playerName) {
+        String key = playerName.toLowerCase();
+        Entry cached = peek(key);
+
+        // A remembered miss is not reused here: an explicit search always asks the API again
+        if (cached != null && cached.profile() != null) {
+            if (cached.isExpired()) {
+                staleHits.increment();
+                fetch(key, playerName);
+            } else {
+                hits.increment();
+            }
+            return CompletableFuture.completedFuture(cached.profile());
+        }
+
+        misses.increment();
+        return fetch(key, playerName);
+    }
+
+    public static Stats getStats() {
+        synchronized (entries) {
+            return new Stats(entries.size(), hits.sum(), staleHits.sum(), misses.sum());
+        }
+    }
+
+    public static long getGeneration() {
+        return generation.get();
+    }
+
+    public static void invalidate(String playerName) {
+        synchronized (entries) {
+            entries.remove(playerName.toLowerCase());
+        }
+        generation.incrementAndGet();
+    }
+
+    public static void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        generation.incrementAndGet();
+    }
+
+    /**
+     * The cached entry for a lowercase key, without fetching or counting a hit
+     * @return the entry, or null if the name has not been fetched (or was evicted)
+     */
+    static Entry peek(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Fetch a profile and store the result, sharing any fetch already running for the key
+     */
+    static CompletableFuture<TierListAPI.PlayerTierData> fetch(String key, String playerName) {
+        CompletableFuture<TierListAPI.PlayerTierData> pending = new CompletableFuture<>();
+        CompletableFuture<TierListAPI.PlayerTierData> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            return existing;
+        }
+
+        TierListAPI.fetchPlayerTier(playerName).whenComplete((data, error) -> {
+            store(key, playerName, data);
+            inFlight.remove(key, pending);
+            pending.complete(data);
+        });
+        return pending;
+    }
+
+    private static void store(String key, String playerName, TierListAPI.PlayerTierData data) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry previous = entries.get(key);
+            // Keep any stale profile: a failed refresh is better answered with old data than none
+            TierListAPI.PlayerTierData kept = data != null ? data : previous != null ? previous.profile() : null;
+            entries.put(key, new Entry(kept, now));
+        }
+
+        if (data != null) {
+            generation.incrementAndGet();
+            if (ModConfig.isDebugMode()) {
+                Stats stats = getStats();
+                CTLTierTagger.LOGGER.info("Cached profile for {} ({} cached, {} hits, {} stale, {} misses, {}% hit rate)",
+                    playerName, stats.size(), stats.hits(), stats.staleHits(), stats.misses(), Math.round(stats.hitRate() * 100));
+            }
+        } else if (ModConfig.isDebugMode()) {
+            CTLTierTagger.LOGGER.info("Profile refresh for {} returned nothing", playerName);
+        }
+    }
+}
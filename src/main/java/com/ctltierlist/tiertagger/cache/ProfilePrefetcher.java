@@ -0,0 +1,158 @@
+package com.ctltierlist.tiertagger.cache;
+
+import com.ctltierlist.tiertagger.CTLTierTagger;
+import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.config.ModConfig;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in background lookup of players who are not on the overall leaderboard (ModConfig.shouldPrefetchProfiles).
+ *
+ * Render code calls {@link #lookup(String)}, which never blocks: it answers from ProfileCache and
+ * queues names that are unknown or expired there. A background thread hands up to BATCH_SIZE queued
+ * names to ProfileCache every BATCH_INTERVAL_MS, which does the fetching and caching; this class
+ * only owns the queue and the rate limit.
+ */
+public final class ProfilePrefetcher {
+    private static final int MAX_QUEUED = 256;
+    private static final int BATCH_SIZE = 8;
+    private static final long BATCH_INTERVAL_MS = 1000;
+
+    private static final Object LOCK = new Object();
+    // Names waiting for a batch (key -> name as seen), plus keys whose request is on the network
+    private static final Map<String, String> queued = new LinkedHashMap<>();
+    private static final Set<String> inFlight = new HashSet<>();
+
+    private static ScheduledExecutorService scheduler;
+
+    private ProfilePrefetcher() {}
+
+    /**
+     * Get a prefetched profile without blocking, queueing the name if it is unknown or expired
+     * @return the profile, or null if the player is unknown, has no tiers, or prefetching is disabled
+     */
+    public static TierListAPI.PlayerTierData lookup(String playerName) {
+        if (!ModConfig.shouldPrefetchProfiles()) {
+            return null;
+        }
+
+        String key = playerName.toLowerCase();
+        ProfileCache.Entry entry = ProfileCache.peek(key);
+        if (entry == null || entry.isExpired()) {
+            enqueue(key, playerName);
+        }
+        // Serve an expired profile until its refresh lands
+        return entry != null ? shown(entry.profile()) : null;
+    }
+
+    /**
+     * Queue a name for prefetching unless ProfileCache already holds a fresh result for it
+     * @return false if the queue is full and the name was not taken; the caller should offer it again later
+     */
+    public static boolean offer(String playerName) {
+        if (!ModConfig.shouldPrefetchProfiles()) {
+            return true;
+        }
+
+        String key = playerName.toLowerCase();
+        ProfileCache.Entry entry = ProfileCache.peek(key);
+        if (entry != null && !entry.isExpired()) {
+            return true;
+        }
+        return enqueue(key, playerName);
+    }
+
+    public static int getQueueSize() {
+        synchronized (LOCK) {
+            return queued.size();
+        }
+    }
+
+    public static void clear() {
+        synchronized (LOCK) {
+            queued.clear();
+        }
+    }
+
+    public static void shutdown() {
+        synchronized (LOCK) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    /**
+     * @return false if the name is neither queued nor in flight because the queue is full
+     */
+    private static boolean enqueue(String key, String playerName) {
+        synchronized (LOCK) {
+            ensureStarted();
+            if (inFlight.contains(key) || queued.containsKey(key)) {
+                return true;
+            }
+            if (queued.size() >= MAX_QUEUED) {
+                return false;
+            }
+            queued.put(key, playerName);
+            return true;
+        }
+    }
+
+    private static TierListAPI.PlayerTierData shown(TierListAPI.PlayerTierData profile) {
+        // Players without any gamemode rank have nothing to show, same as a failed lookup
+        return profile != null && profile.hasTiers() ? profile : null;
+    }
+
+    private static void ensureStarted() {
+        // Called with LOCK held
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "CTL-TierTagger-Prefetch");
+                t.setDaemon(true);
+                return t;
+            });
+            scheduler.scheduleWithFixedDelay(ProfilePrefetcher::dispatchBatch, 0, BATCH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void dispatchBatch() {
+        if (!ModConfig.shouldPrefetchProfiles()) {
+            return;
+        }
+
+        Map<String, String> batch = new LinkedHashMap<>();
+        synchronized (LOCK) {
+            // Rate limit: never more than BATCH_SIZE prefetches on the network at once
+            Iterator<Map.Entry<String, String>> it = queued.entrySet().iterator();
+            while (it.hasNext() && inFlight.size() < BATCH_SIZE) {
+                Map.Entry<String, String> next = it.next();
+                it.remove();
+                inFlight.add(next.getKey());
+                batch.put(next.getKey(), next.getValue());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (ModConfig.isDebugMode()) {
+            CTLTierTagger.LOGGER.info("Prefetching {} profiles ({} still queued)", batch.size(), getQueueSize());
+        }
+        batch.forEach((key, playerName) ->
+            ProfileCache.fetch(key, playerName).whenComplete((profile, error) -> {
+                synchronized (LOCK) {
+                    inFlight.remove(key);
+                }
+            }));
+    }
+}
@@ -1,18 +1,61 @@
 package com.ctltierlist.tiertagger.cache;
 
 import com.ctltierlist.tiertagger.api.TierListAPI;
+import com.ctltierlist.tiertagger.config.ModConfig;
+
+import java.util.UUID;
 
 public class TierCache {
 
     /**
-     * Get tier data for a player from OverallCache only.
-     * No fallback API calls - only ranked players will show tiers.
+     * Get tier data for a player from OverallCache, falling back to ProfilePrefetcher when prefetching
+     * is enabled. Never blocks: unknown players are queued and show up once their lookup completes.
      */
     public static TierListAPI.PlayerTierData getTierData(String playerName) {
         if (playerName == null || playerName.isEmpty()) {
             return null;
         }
-        return OverallCache.getPlayer(playerName);
+        TierListAPI.PlayerTierData data = OverallCache.getPlayer(playerName);
+        if (data != null || OverallCache.getState() == OverallCache.State.EMPTY) {
+            // Until the leaderboard loads, every player looks unknown; don't queue them all for a prefetch
+            return data;
+        }
+        return ProfilePrefetcher.lookup(playerName);
+    }
+
+    /**
+     * Make sure tier data for a player will be available, without waiting for it: leaderboard players
+     * already are, anyone else is offered to ProfilePrefetcher.
+     * @return false if the prefetch queue is full or the leaderboard has not loaded yet; offer the name again later
+     */
+    public static boolean prefetch(String playerName) {
+        if (playerName == null || playerName.isEmpty() || OverallCache.getPlayer(playerName) != null) {
+            return true;
+        }
+        if (OverallCache.getState() == OverallCache.State.EMPTY) {
+            return false;
+        }
+        return ProfilePrefetcher.offer(playerName);
+    }
+
+    /**
+     * Get tier data for a player entity, preferring its UUID (survives renames) and falling back to the name
+     */
+    public static TierListAPI.PlayerTierData getTierData(UUID uuid, String playerName) {
+        TierListAPI.PlayerTierData data = OverallCache.getPlayer(uuid);
+        if (data != null) {
+            return data;
+        }
+        return getTierData(playerName);
+    }
+
+    /**
+     * Changes whenever a lookup above could return something different: new leaderboard data, a
+     * profile fetch (prefetch or search), or a config change (which may toggle prefetching). Cheap enough to poll every frame.
+     */
+    public static long getGeneration() {
+        // Each counter only grows, so the sum changes whenever any of them does
+        return OverallCache.getGeneration() + ProfileCache.getGeneration() + ModConfig.getGeneration();
     }
 
     /**
@@ -0,0 +1,143 @@
+package com.ctltierlist.tiertagger.config;
+
+import com.ctltierlist.tiertagger.util.TierUtil;
+
+/**
+ * Immutable copy of every config value. ModConfig publishes a new snapshot through one volatile
+ * reference on each change, so a reader that takes one snapshot sees a consistent set of values.
+ *
+ * Colour tables are indexed by tier ordinal (TierUtil code - 1) and are never handed out mutable.
+ */
+public record ConfigSnapshot(
+    long generation,
+    boolean enabled,
+    boolean showGamemode,
+    long cacheTimeMinutes,
+    boolean debugMode,
+    String selectedGamemode,
+    boolean showHighestTier,
+    int maxConcurrentRequests,
+    boolean prefetchProfiles,
+    int[] tierColors,
+    int[] gradientColors,
+    boolean[] gradientEnabled
+) {
+    public static final int RETIRED_COLOR = 0x808080; // TierTagger retired color (gray)
+    private static final int UNRANKED_COLOR = 0xD3D3D3;
+    private static final int UNRANKED_GRADIENT_COLOR = 0xAAAAAA;
+
+    // Tier colors (Exact TierTagger colors): HT1, LT1, HT2, ... LT5
+    private static final int[] DEFAULT_TIER_COLORS = {
+        0xe8ba3a, 0xd5b355, 0xc4d3e7, 0xa0a7b2, 0xf89f5a, 0xc67b42, 0x81749a, 0x655b79, 0x8f82a8, 0x655b79
+    };
+
+    // Gradient colors (second color for gradients)
+    private static final int[] DEFAULT_GRADIENT_COLORS = {
+        0xd5a830, 0xc2a045, 0xb0c0d7, 0x8090a2, 0xe88040, 0xb06030, 0x706080, 0x554860, 0x7d6f98, 0x554860
+    };
+
+    public static final ConfigSnapshot DEFAULTS = new ConfigSnapshot(
+        0, true, true, 30, false, "Sword", false, 4, false,
+        DEFAULT_TIER_COLORS, DEFAULT_GRADIENT_COLORS, new boolean[TierUtil.TIER_COUNT]
+    );
+
+    public ConfigSnapshot {
+        if (tierColors.length != TierUtil.TIER_COUNT || gradientColors.length != TierUtil.TIER_COUNT
+                || gradientEnabled.length != TierUtil.TIER_COUNT) {
+            throw new IllegalArgumentException("Colour tables must have one entry per tier");
+        }
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+        }
+        tierColors = tierColors.clone();
+        gradientColors = gradientColors.clone();
+        gradientEnabled = gradientEnabled.clone();
+    }
+
+    @Override
+    public int[] tierColors() { return tierColors.clone(); }
+
+    @Override
+    public int[] gradientColors() { return gradientColors.clone(); }
+
+    @Override
+    public boolean[] gradientEnabled() { return gradientEnabled.clone(); }
+
+    public long cacheTimeMillis() { return cacheTimeMinutes * 60 * 1000; }
+
+    /**
+     * Colour for a tier by TierUtil code
+     */
+    public int tierColor(int tierCode, boolean retired) {
+        if (retired) return RETIRED_COLOR;
+        if (tierCode == TierUtil.UNRANKED) return UNRANKED_COLOR;
+        return tierColors[tierCode - 1];
+    }
+
+    public int gradientColor(int tierCode) {
+        if (tierCode == TierUtil.UNRANKED) return UNRANKED_GRADIENT_COLOR;
+        return gradientColors[tierCode - 1];
+    }
+
+    public boolean isGradientEnabled(int tierCode) {
+        return tierCode != TierUtil.UNRANKED && gradientEnabled[tierCode - 1];
+    }
+
+    public ConfigSnapshot withGeneration(long value) {
+        return new ConfigSnapshot(value, enabled, showGamemode, cacheTimeMinutes, debugMode, selectedGamemode, showHighestTier, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withEnabled(boolean value) {
+        return new ConfigSnapshot(generation, value, showGamemode, cacheTimeMinutes, debugMode, selectedGamemode, showHighestTier, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withShowGamemode(boolean value) {
+        return new ConfigSnapshot(generation, enabled, value, cacheTimeMinutes, debugMode, selectedGamemode, showHighestTier, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withCacheTimeMinutes(long value) {
+        return new ConfigSnapshot(generation, enabled, showGamemode, value, debugMode, selectedGamemode, showHighestTier, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withDebugMode(boolean value) {
+        return new ConfigSnapshot(generation, enabled, showGamemode, cacheTimeMinutes, value, selectedGamemode, showHighestTier, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withSelectedGamemode(String value) {
+        return new ConfigSnapshot(generation, enabled, showGamemode, cacheTimeMinutes, debugMode, value, showHighestTier, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withShowHighestTier(boolean value) {
+        return new ConfigSnapshot(generation, enabled, showGamemode, cacheTimeMinutes, debugMode, selectedGamemode, value, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withMaxConcurrentRequests(int value) {
+        return new ConfigSnapshot(generation, enabled, showGamemode, cacheTimeMinutes, debugMode, selectedGamemode, showHighestTier, value, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withPrefetchProfiles(boolean value) {
+        return new ConfigSnapshot(generation, enabled, showGamemode, cacheTimeMinutes, debugMode, selectedGamemode, showHighestTier, maxConcurrentRequests, value, tierColors, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withTierColor(int tierCode, int value) {
+        int[] next = tierColors.clone();
+        next[tierCode - 1] = value;
+        return withColors(next, gradientColors, gradientEnabled);
+    }
+
+    public ConfigSnapshot withGradientColor(int tierCode, int value) {
+        int[] next = gradientColors.clone();
+        next[tierCode - 1] = value;
+        return withColors(tierColors, next, gradientEnabled);
+    }
+
+    public ConfigSnapshot withGradientEnabled(int tierCode, boolean value) {
+        boolean[] next = gradientEnabled.clone();
+        next[tierCode - 1] = value;
+        return withColors(tierColors, gradientColors, next);
+    }
+
+    public ConfigSnapshot withColors(int[] tierColors, int[] gradientColors, boolean[] gradientEnabled) {
+        return new ConfigSnapshot(generation, enabled, showGamemode, cacheTimeMinutes, debugMode, selectedGamemode, showHighestTier, maxConcurrentRequests, prefetchProfiles, tierColors, gradientColors, gradientEnabled);
+    }
+}
@@ -0,0 +1,33 @@
+package com.ctltierlist.tiertagger.util;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Write-to-temp-then-rename, so a crash mid-write never leaves a truncated file behind.
+ */
+public final class FileUtil {
+    private FileUtil() {}
+
+    /**
+     * The temp file to write before {@link #replace(Path, Path)}: next to the target, so the move stays on one file system
+     */
+    public static Path tempFileFor(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    /**
+     * Move a fully written temp file over the target, atomically where the file system allows it.
+     * Falls back to a plain replace, so the target is still updated where atomic moves are unsupported.
+     */
+    public static void replace(Path tempFile, Path target) throws IOException {
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -3,6 +3,11 @@ package com.ctltierlist.tiertagger.util;
 public final class GamemodeUtil {
     private GamemodeUtil() {}
 
+    /**
+     * Normalized names of the gamemodes with a fixed ordinal, in display order
+     */
+    public static final String[] GAMEMODES = {"Sword", "Crystal", "Netherite", "Potion", "Mace", "UHC", "Axe", "SMP", "DiaSMP"};
+
     public static String normalize(String gamemode) {
         return switch (gamemode.toLowerCase()) {
             case "sword", "swd" -> "Sword";
@@ -17,4 +22,23 @@ public final class GamemodeUtil {
             default -> gamemode;
         };
     }
+
+    /**
+     * @param gamemode a normalized gamemode name
+     * @return its index in {@link #GAMEMODES}, or -1 if it has no fixed ordinal
+     */
+    public static int ordinal(String gamemode) {
+        return switch (gamemode) {
+            case "Sword" -> 0;
+            case "Crystal" -> 1;
+            case "Netherite" -> 2;
+            case "Potion" -> 3;
+            case "Mace" -> 4;
+            case "UHC" -> 5;
+            case "Axe" -> 6;
+            case "SMP" -> 7;
+            case "DiaSMP" -> 8;
+            default -> -1;
+        };
+    }
 }
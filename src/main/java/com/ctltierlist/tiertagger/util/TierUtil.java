@@ -0,0 +1,49 @@
+package com.ctltierlist.tiertagger.util;
+
+/**
+ * Compact encoding of ranked tiers: HT1..LT5 map to codes 1..10 (lower is better), 0 means unranked.
+ * A player's tiers for the known gamemodes pack into a single long, 5 bits per gamemode ordinal.
+ */
+public final class TierUtil {
+    private TierUtil() {}
+
+    public static final int UNRANKED = 0;
+    public static final int TIER_COUNT = 10;
+
+    private static final String[] NAMES = {"HT1", "LT1", "HT2", "LT2", "HT3", "LT3", "HT4", "LT4", "HT5", "LT5"};
+    private static final int BITS_PER_GAMEMODE = 5;
+    private static final int CODE_MASK = 0x0F;
+    private static final int RETIRED_BIT = 0x10;
+    private static final int SLOT_MASK = CODE_MASK | RETIRED_BIT;
+
+    /**
+     * @return 1..10 for HT1..LT5, or UNRANKED for anything else
+     */
+    public static int code(String tier) {
+        if (tier == null || tier.length() != 3 || tier.charAt(1) != 'T') return UNRANKED;
+        char kind = tier.charAt(0);
+        int num = tier.charAt(2) - '0';
+        if (num < 1 || num > 5) return UNRANKED;
+        if (kind == 'H') return num * 2 - 1;
+        if (kind == 'L') return num * 2;
+        return UNRANKED;
+    }
+
+    public static String name(int code) {
+        return code >= 1 && code <= TIER_COUNT ? NAMES[code - 1] : "Unranked";
+    }
+
+    public static long pack(long packed, int gamemodeOrdinal, int code, boolean retired) {
+        int shift = gamemodeOrdinal * BITS_PER_GAMEMODE;
+        long slot = code == UNRANKED ? 0 : (code | (retired ? RETIRED_BIT : 0));
+        return (packed & ~((long) SLOT_MASK << shift)) | (slot << shift);
+    }
+
+    public static int codeAt(long packed, int gamemodeOrdinal) {
+        return (int) (packed >>> (gamemodeOrdinal * BITS_PER_GAMEMODE)) & CODE_MASK;
+    }
+
+    public static boolean retiredAt(long packed, int gamemodeOrdinal) {
+        return ((packed >>> (gamemodeOrdinal * BITS_PER_GAMEMODE)) & RETIRED_BIT) != 0;
+    }
+}